@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.ebean.benchmark.domain.User;
+import org.springframework.data.ebean.repository.BatchOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk inserts of {@code rows} users through {@code saveAll}, plain and in JDBC batches.
+ *
+ * @author Xuegui Yuan
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchSaveBenchmark {
+
+    private static final String EMAIL_PREFIX = "batch";
+
+    @Param({"1000"})
+    public int rows;
+
+    @Param({"100"})
+    public int batchSize;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Benchmark
+    public Iterable<User> saveAll(EbeanState state) {
+        return state.userRepository.saveAll(users());
+    }
+
+    @Benchmark
+    public Iterable<User> saveAllBatched(EbeanState state) {
+        return state.userRepository.saveAll(users(), BatchOptions.of(batchSize));
+    }
+
+    @Benchmark
+    public Iterable<User> saveAllBatchedWithoutGeneratedKeys(EbeanState state) {
+        return state.userRepository.saveAll(users(), BatchOptions.of(batchSize).withGetGeneratedKeys(false));
+    }
+
+    /**
+     * Remove the inserted users so every iteration inserts into the seeded data set.
+     */
+    @TearDown(Level.Iteration)
+    public void deleteInserted(EbeanState state) {
+        state.db.find(User.class).where().startsWith("emailAddress", EMAIL_PREFIX).delete();
+    }
+
+    private List<User> users() {
+        List<User> users = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            users.add(new User("batch", "batch", EMAIL_PREFIX + sequence.incrementAndGet() + "@bench.org"));
+        }
+        return users;
+    }
+}
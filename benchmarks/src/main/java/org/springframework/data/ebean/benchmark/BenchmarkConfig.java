@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark;
+
+import io.ebean.Database;
+import io.ebean.DatabaseFactory;
+import io.ebean.config.DatabaseConfig;
+import io.ebean.spring.txn.SpringJdbcTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.ebean.benchmark.domain.Role;
+import org.springframework.data.ebean.benchmark.domain.User;
+import org.springframework.data.ebean.querychannel.EbeanQueryChannelService;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Spring configuration of the benchmarks, an Ebean Database on embedded H2 as in the integration tests.
+ *
+ * @author Xuegui Yuan
+ */
+@Configuration
+@EnableEbeanRepositories("org.springframework.data.ebean.benchmark.domain")
+@EnableTransactionManagement
+public class BenchmarkConfig {
+
+    @Bean
+    public DataSource dataSource() {
+        return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(DataSource dataSource) {
+        return new DataSourceTransactionManager(dataSource);
+    }
+
+    @Bean
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    @Bean
+    public Database ebeanServer(DataSource dataSource) {
+        DatabaseConfig config = new DatabaseConfig();
+        config.setDataSource(dataSource);
+        config.setExternalTransactionManager(new SpringJdbcTransactionManager());
+        config.loadFromProperties();
+        config.setDefaultServer(true);
+        config.setRegister(true);
+        config.addClass(User.class);
+        config.addClass(Role.class);
+        config.setCurrentUserProvider(() -> "benchmark");
+        return DatabaseFactory.create(config);
+    }
+
+    @Bean
+    public EbeanQueryChannelService ebeanQueryChannelService(Database ebeanServer) {
+        return new EbeanQueryChannelService(ebeanServer);
+    }
+}
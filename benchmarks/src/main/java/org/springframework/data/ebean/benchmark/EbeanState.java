@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark;
+
+import io.ebean.Database;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.ebean.benchmark.domain.Role;
+import org.springframework.data.ebean.benchmark.domain.User;
+import org.springframework.data.ebean.benchmark.domain.UserRepository;
+import org.springframework.data.ebean.querychannel.EbeanQueryChannelService;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application context and seeded data set shared by the benchmarks of a trial.
+ * <p>
+ * Seeds {@code users} users over 100 last names ({@code last0} .. {@code last99}), ages 0 .. 99 and two roles, every
+ * second user active. {@link #userId(int)} and {@link #email(int)} address seeded users.
+ *
+ * @author Xuegui Yuan
+ */
+@State(Scope.Benchmark)
+public class EbeanState {
+
+    static final int LAST_NAMES = 100;
+
+    @Param({"10000"})
+    public int users;
+
+    AnnotationConfigApplicationContext context;
+    Database db;
+    UserRepository userRepository;
+    EbeanQueryChannelService queryChannel;
+    TransactionTemplate transactionTemplate;
+
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+        db = context.getBean(Database.class);
+        userRepository = context.getBean(UserRepository.class);
+        queryChannel = context.getBean(EbeanQueryChannelService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        Role admin = new Role("ADMIN");
+        Role user = new Role("USER");
+        db.saveAll(List.of(admin, user));
+
+        ids = new long[users];
+        List<User> batch = new ArrayList<>(1000);
+        for (int i = 0; i < users; i++) {
+            User u = new User("first" + i, lastName(i), email(i), i % 10 == 0 ? admin : user);
+            u.setAge(i % 100);
+            u.setActive(i % 2 == 0);
+            batch.add(u);
+            if (batch.size() == 1000 || i == users - 1) {
+                db.saveAll(batch);
+                for (User saved : batch) {
+                    ids[indexOf(saved)] = saved.getId();
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    static String lastName(int i) {
+        return "last" + (i % LAST_NAMES);
+    }
+
+    static String email(int i) {
+        return "user" + i + "@bench.org";
+    }
+
+    long userId(int i) {
+        return ids[i];
+    }
+
+    private static int indexOf(User user) {
+        String email = user.getEmailAddress();
+        return Integer.parseInt(email.substring(4, email.indexOf('@')));
+    }
+}
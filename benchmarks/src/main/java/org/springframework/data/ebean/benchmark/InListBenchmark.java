@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.ebean.benchmark.domain.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code IN} list query methods bound with randomly sized lists, with and without
+ * {@link org.springframework.data.ebean.annotation.EbeanInListPadding}. The number of query plans Ebean executed is
+ * logged after each trial.
+ *
+ * @author Xuegui Yuan
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InListBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InListBenchmark.class);
+
+    @Param({"200"})
+    public int maxValues;
+
+    @Benchmark
+    public List<User> unpadded(EbeanState state) {
+        return state.userRepository.findByEmailAddressIn(randomEmails(state));
+    }
+
+    @Benchmark
+    public List<User> padded(EbeanState state) {
+        return state.userRepository.readByEmailAddressIn(randomEmails(state));
+    }
+
+    @TearDown(Level.Trial)
+    public void logQueryPlans(EbeanState state) {
+        LOG.info("Ebean query plans executed: {}", state.db.metaInfo().collectMetrics().queryMetrics().size());
+    }
+
+    private List<String> randomEmails(EbeanState state) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int size = 1 + random.nextInt(maxValues);
+        List<String> emails = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            emails.add(EbeanState.email(random.nextInt(state.users)));
+        }
+        return emails;
+    }
+}
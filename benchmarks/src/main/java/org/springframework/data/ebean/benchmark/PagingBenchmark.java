@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.ebean.benchmark.domain.User;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Paging through repository and query method {@link Page} results, and streaming query methods. {@code deepOffset}
+ * and {@code deepKeyset} read the same window from the last quarter of the users, skipping the preceding rows by
+ * offset or seeking past the last seen id.
+ *
+ * @author Xuegui Yuan
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PagingBenchmark {
+
+    @Param({"20"})
+    public int pageSize;
+
+    @Param({"1000"})
+    public int streamed;
+
+    @Benchmark
+    public Page<User> findAllPage(EbeanState state) {
+        return state.userRepository.findAll(PageRequest.of(randomPage(state), pageSize, Sort.by("id")));
+    }
+
+    @Benchmark
+    public Page<User> derivedPage(EbeanState state) {
+        return state.userRepository.findByActive(true, PageRequest.of(randomPage(state), pageSize, Sort.by("id")));
+    }
+
+    @Benchmark
+    public Long stream(EbeanState state) {
+        return state.transactionTemplate.execute(status -> {
+            try (Stream<User> users = state.userRepository.streamByActive(true)) {
+                return users.limit(streamed).count();
+            }
+        });
+    }
+
+    @Benchmark
+    public Window<User> deepOffset(EbeanState state) {
+        int start = randomDeepStart(state);
+        return state.userRepository.findAll(ScrollPosition.offset(start), Sort.by("id"), pageSize);
+    }
+
+    @Benchmark
+    public Window<User> deepKeyset(EbeanState state) {
+        int start = randomDeepStart(state);
+        return state.userRepository.findAll(ScrollPosition.forward(Map.of("id", state.userId(start))), Sort.by("id"),
+                pageSize);
+    }
+
+    private int randomDeepStart(EbeanState state) {
+        int quarter = Math.max(1, state.users / 4 - pageSize);
+        return state.users - state.users / 4 + ThreadLocalRandom.current().nextInt(quarter) - 1;
+    }
+
+    private int randomPage(EbeanState state) {
+        return ThreadLocalRandom.current().nextInt(Math.max(1, state.users / 2 / pageSize));
+    }
+}
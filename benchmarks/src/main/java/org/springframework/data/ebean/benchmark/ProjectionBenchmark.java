@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.ebean.benchmark.domain.User;
+import org.springframework.data.ebean.benchmark.domain.UserSummary;
+import org.springframework.data.ebean.benchmark.domain.UserView;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.ebean.benchmark.RepositoryBenchmark.randomUser;
+
+/**
+ * The same derived finder returning entities, a closed interface projection and a record, the projections selecting
+ * two columns only. Run with {@code -prof gc} to compare the allocation per operation.
+ *
+ * @author Xuegui Yuan
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    @Benchmark
+    public List<User> entity(EbeanState state) {
+        return state.userRepository.findByFullNameLastName(EbeanState.lastName(randomUser(state)));
+    }
+
+    @Benchmark
+    public List<UserSummary> interfaceProjection(EbeanState state) {
+        return state.userRepository.findSummaryByFullNameLastName(EbeanState.lastName(randomUser(state)));
+    }
+
+    @Benchmark
+    public List<UserView> recordProjection(EbeanState state) {
+        return state.userRepository.findViewByFullNameLastName(EbeanState.lastName(randomUser(state)));
+    }
+}
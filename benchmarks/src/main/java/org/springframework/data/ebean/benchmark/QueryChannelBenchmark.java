@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark;
+
+import io.ebean.ExpressionList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.ebean.benchmark.domain.User;
+import org.springframework.data.ebean.benchmark.domain.UserQuery;
+import org.springframework.data.ebean.querychannel.CompiledQueryObjectBinder;
+import org.springframework.data.ebean.querychannel.QueryObjectBinder;
+import org.springframework.data.ebean.querychannel.QueryObjectBinders;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binding query objects: the reflective baseline, the binder compiled at runtime and the binder generated at compile
+ * time, plus a query channel query end to end.
+ *
+ * @author Xuegui Yuan
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class QueryChannelBenchmark {
+
+    private UserQuery query;
+    private QueryObjectBinder<UserQuery> compiled;
+    private QueryObjectBinder<UserQuery> registered;
+
+    @Setup
+    public void setUp() {
+        query = new UserQuery();
+        query.setLastName("last1");
+        query.setAgeStart(10);
+        query.setAgeEnd(60);
+        query.setIds(new Long[]{1L, 2L, 3L, 4L});
+        compiled = CompiledQueryObjectBinder.of(UserQuery.class);
+        // the generated binder when the annotation processor ran, else the compiled one
+        registered = QueryObjectBinders.binderFor(UserQuery.class);
+    }
+
+    @Benchmark
+    public ExpressionList<User> reflectiveApplyWhere(EbeanState state) {
+        return ReflectiveApplyWhere.applyWhere(state.db.find(User.class).where(), query);
+    }
+
+    @Benchmark
+    public ExpressionList<User> compiledApplyWhere(EbeanState state) {
+        ExpressionList<User> where = state.db.find(User.class).where();
+        compiled.bind(where, query);
+        return where;
+    }
+
+    @Benchmark
+    public ExpressionList<User> registeredApplyWhere(EbeanState state) {
+        ExpressionList<User> where = state.db.find(User.class).where();
+        registered.bind(where, query);
+        return where;
+    }
+
+    @Benchmark
+    public List<User> queryChannelQuery(EbeanState state) {
+        return state.queryChannel.createQuery(User.class, query, PageRequest.of(0, 20)).findList();
+    }
+}
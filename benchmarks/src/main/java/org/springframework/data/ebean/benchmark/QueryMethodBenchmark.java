@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.ebean.benchmark.domain.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.ebean.benchmark.RepositoryBenchmark.randomUser;
+
+/**
+ * Derived finders through {@code PartTreeEbeanQuery} and {@code @Query} OQL and native methods with the same predicate.
+ * {@code derivedFinderTreeWalking} runs the same query with the criteria built by walking the {@code PartTree} on
+ * every call, as derived finders did before compiling the criteria at bootstrap.
+ *
+ * @author Xuegui Yuan
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryMethodBenchmark {
+
+    private static final int MIN_AGE = 90;
+
+    @Benchmark
+    public List<User> derivedFinder(EbeanState state) {
+        return state.userRepository.findByFullNameLastNameAndAgeGreaterThan(EbeanState.lastName(randomUser(state)), MIN_AGE);
+    }
+
+    @Benchmark
+    public List<User> derivedFinderTreeWalking(EbeanState state) {
+        return state.db.find(User.class)
+                .where(TreeWalkingCriteria.create(EbeanState.lastName(randomUser(state)), MIN_AGE))
+                .findList();
+    }
+
+    @Benchmark
+    public User derivedSingleResult(EbeanState state) {
+        return state.userRepository.findByEmailAddress(EbeanState.email(randomUser(state)));
+    }
+
+    @Benchmark
+    public List<User> oqlQuery(EbeanState state) {
+        return state.userRepository.findByLastNameOql(EbeanState.lastName(randomUser(state)), MIN_AGE);
+    }
+
+    @Benchmark
+    public List<User> nativeQuery(EbeanState state) {
+        return state.userRepository.findByLastNameNative(EbeanState.lastName(randomUser(state)), MIN_AGE);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark;
+
+import io.ebean.Expr;
+import io.ebean.ExpressionList;
+import org.springframework.data.ebean.annotation.ExprParam;
+import org.springframework.data.ebean.querychannel.ExprType;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Field;
+
+/**
+ * The reflective {@code applyWhere} the query object binders replaced, kept as the baseline of
+ * {@link QueryChannelBenchmark}.
+ *
+ * @author Xuegui Yuan
+ */
+final class ReflectiveApplyWhere {
+
+    private ReflectiveApplyWhere() {
+    }
+
+    static <T> ExpressionList<T> applyWhere(ExpressionList<T> expressionList, Object queryObject) {
+        for (Field field : queryObject.getClass().getDeclaredFields()) {
+            field.setAccessible(true);
+            String param = field.getName();
+            Object value;
+            try {
+                value = field.get(queryObject);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+            ExprType exprType = ExprType.DEFAULT;
+            boolean ignoreCase = false;
+            boolean isString = field.getType() == String.class;
+            if (field.isAnnotationPresent(ExprParam.class)) {
+                ExprParam exprParam = field.getAnnotation(ExprParam.class);
+                exprType = exprParam.expr();
+                ignoreCase = exprParam.ignoreCase();
+                if (exprParam.escapeNull() && value == null) {
+                    continue;
+                }
+                if (StringUtils.hasText(exprParam.value())) {
+                    param = exprParam.value();
+                }
+                if (StringUtils.hasText(exprParam.name())) {
+                    param = exprParam.name();
+                }
+            }
+            switch (exprType) {
+                case EQ:
+                    expressionList.add(isString && ignoreCase ? Expr.ieq(param, (String) value) : Expr.eq(param, value));
+                    break;
+                case GE:
+                    expressionList.add(Expr.ge(param, value));
+                    break;
+                case LE:
+                    expressionList.add(Expr.le(param, value));
+                    break;
+                case STARTS_WITH:
+                    if (isString) {
+                        expressionList.add(ignoreCase ? Expr.istartsWith(param, (String) value)
+                                : Expr.startsWith(param, (String) value));
+                    }
+                    break;
+                case IN:
+                    expressionList.add(Expr.in(param, (Object[]) value));
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Not used by the benchmark query object: " + exprType);
+            }
+        }
+        return expressionList;
+    }
+}
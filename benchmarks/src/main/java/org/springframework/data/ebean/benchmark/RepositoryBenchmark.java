@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.ebean.benchmark.domain.User;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CRUD through {@code SimpleEbeanRepository}.
+ *
+ * @author Xuegui Yuan
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Benchmark
+    public Optional<User> findById(EbeanState state) {
+        return state.userRepository.findById(state.userId(randomUser(state)));
+    }
+
+    @Benchmark
+    public boolean existsById(EbeanState state) {
+        return state.userRepository.existsById(state.userId(randomUser(state)));
+    }
+
+    @Benchmark
+    public long count(EbeanState state) {
+        return state.userRepository.count();
+    }
+
+    @Benchmark
+    public User update(EbeanState state) {
+        User user = state.userRepository.findById(state.userId(randomUser(state))).orElseThrow();
+        user.setAge((user.getAge() + 1) % 100);
+        return state.userRepository.update(user);
+    }
+
+    /**
+     * Insert and delete a user, keeping the seeded data set unchanged.
+     */
+    @Benchmark
+    public User insertAndDelete(EbeanState state) {
+        long n = sequence.incrementAndGet();
+        User user = state.userRepository.save(new User("new", "new", "new" + n + "@bench.org"));
+        state.userRepository.deleteById(user.getId());
+        return user;
+    }
+
+    static int randomUser(EbeanState state) {
+        return ThreadLocalRandom.current().nextInt(state.users);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark;
+
+import io.ebean.Expr;
+import io.ebean.Expression;
+import org.springframework.data.ebean.benchmark.domain.User;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The per invocation {@link PartTree} walk the compiled derived query criteria replaced, kept as the baseline of
+ * {@link QueryMethodBenchmark}. Covers the keywords of {@code findByFullNameLastNameAndAgeGreaterThan} only.
+ *
+ * @author Xuegui Yuan
+ */
+final class TreeWalkingCriteria {
+
+    private static final PartTree TREE = new PartTree("findByFullNameLastNameAndAgeGreaterThan", User.class);
+
+    private TreeWalkingCriteria() {
+    }
+
+    static Expression create(Object... values) {
+        Iterator<Object> arguments = List.of(values).iterator();
+        Expression criteria = null;
+        for (PartTree.OrPart orPart : TREE) {
+            Expression and = null;
+            for (Part part : orPart) {
+                Expression expression = toExpression(part, arguments);
+                and = and == null ? expression : Expr.and(and, expression);
+            }
+            criteria = criteria == null ? and : Expr.or(criteria, and);
+        }
+        return criteria;
+    }
+
+    private static Expression toExpression(Part part, Iterator<Object> arguments) {
+        String path = part.getProperty().toDotPath();
+        switch (part.getType()) {
+            case SIMPLE_PROPERTY:
+                Object value = arguments.next();
+                return value == null ? Expr.isNull(path) : Expr.eq(path, value);
+            case GREATER_THAN:
+                return Expr.gt(path, arguments.next());
+            default:
+                throw new IllegalArgumentException("Unsupported keyword " + part.getType());
+        }
+    }
+}
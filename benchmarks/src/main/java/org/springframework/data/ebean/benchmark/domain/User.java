@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark.domain;
+
+import org.springframework.data.ebean.sample.domain.AbstractEntity;
+
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The sample user model, without Lombok so the benchmarks only need the Ebean enhancement.
+ *
+ * @author Xuegui Yuan
+ */
+@Entity
+@Table(name = "user")
+public class User extends AbstractEntity {
+
+    @Embedded
+    private FullName fullName;
+    private int age;
+    private boolean active;
+
+    @Column(nullable = false, unique = true)
+    private String emailAddress;
+
+    @ManyToMany
+    private Set<Role> roles;
+
+    @ManyToOne
+    private User manager;
+
+    public User() {
+    }
+
+    public User(String firstName, String lastName, String emailAddress, Role... roles) {
+        this.fullName = new FullName(firstName, lastName);
+        this.emailAddress = emailAddress;
+        this.active = true;
+        this.roles = new HashSet<>(Arrays.asList(roles));
+    }
+
+    public FullName getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(FullName fullName) {
+        this.fullName = fullName;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public String getEmailAddress() {
+        return emailAddress;
+    }
+
+    public void setEmailAddress(String emailAddress) {
+        this.emailAddress = emailAddress;
+    }
+
+    public Set<Role> getRoles() {
+        return roles;
+    }
+
+    public User getManager() {
+        return manager;
+    }
+
+    public void setManager(User manager) {
+        this.manager = manager;
+    }
+}
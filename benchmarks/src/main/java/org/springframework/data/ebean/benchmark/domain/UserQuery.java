@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark.domain;
+
+import org.springframework.data.ebean.annotation.ExprParam;
+import org.springframework.data.ebean.annotation.IncludeFields;
+import org.springframework.data.ebean.querychannel.ExprType;
+
+/**
+ * Query object bound by {@code EbeanQueryChannelService.applyWhere}.
+ *
+ * @author Xuegui Yuan
+ */
+@IncludeFields("emailAddress,fullName(lastName,firstName),age")
+public class UserQuery {
+
+    @ExprParam(expr = ExprType.EQ)
+    private String emailAddress;
+
+    @ExprParam(name = "fullName.lastName", expr = ExprType.STARTS_WITH)
+    private String lastName;
+
+    @ExprParam(name = "age", expr = ExprType.GE)
+    private int ageStart;
+
+    @ExprParam(name = "age", expr = ExprType.LE)
+    private int ageEnd;
+
+    @ExprParam(name = "id", expr = ExprType.IN)
+    private Long[] ids;
+
+    public String getEmailAddress() {
+        return emailAddress;
+    }
+
+    public void setEmailAddress(String emailAddress) {
+        this.emailAddress = emailAddress;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public int getAgeStart() {
+        return ageStart;
+    }
+
+    public void setAgeStart(int ageStart) {
+        this.ageStart = ageStart;
+    }
+
+    public int getAgeEnd() {
+        return ageEnd;
+    }
+
+    public void setAgeEnd(int ageEnd) {
+        this.ageEnd = ageEnd;
+    }
+
+    public Long[] getIds() {
+        return ids;
+    }
+
+    public void setIds(Long[] ids) {
+        this.ids = ids;
+    }
+}
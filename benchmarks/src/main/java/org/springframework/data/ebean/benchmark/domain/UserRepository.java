@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.benchmark.domain;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.ebean.annotation.EbeanInListPadding;
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository exercising the query method flavors measured by the benchmarks.
+ *
+ * @author Xuegui Yuan
+ */
+public interface UserRepository extends EbeanRepository<User, Long> {
+
+    List<User> findByFullNameLastNameAndAgeGreaterThan(String lastName, int age);
+
+    User findByEmailAddress(String emailAddress);
+
+    List<User> findByFullNameLastName(String lastName);
+
+    List<UserSummary> findSummaryByFullNameLastName(String lastName);
+
+    List<UserView> findViewByFullNameLastName(String lastName);
+
+    List<User> findByEmailAddressIn(Collection<String> emailAddresses);
+
+    @EbeanInListPadding
+    List<User> readByEmailAddressIn(Collection<String> emailAddresses);
+
+    Page<User> findByActive(boolean active, Pageable pageable);
+
+    boolean existsByActive(boolean active);
+
+    long countByActive(boolean active);
+
+    Stream<User> streamByActive(boolean active);
+
+    @Query("where fullName.lastName = :lastName and age > :age")
+    List<User> findByLastNameOql(@Param("lastName") String lastName, @Param("age") int age);
+
+    @Query(nativeQuery = true, value = "select * from user where last_name = :lastName and age > :age")
+    List<User> findByLastNameNative(@Param("lastName") String lastName, @Param("age") int age);
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Writes the entities passed to {@code saveAll} and {@code updateAll} of the annotated repository in JDBC batches, see
+ * {@link org.springframework.data.ebean.repository.BatchOptions}.
+ *
+ * @author Xuegui Yuan
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EbeanBatch {
+
+    /**
+     * Number of statements per JDBC batch, the batch is flushed every {@code size} rows.
+     */
+    int size() default 100;
+
+    /**
+     * Whether generated keys are fetched for batched inserts. Disabling it speeds up inserts of entities using identity
+     * columns, but leaves their ids unset after the insert. Defaults to {@literal true}.
+     */
+    boolean getGeneratedKeys() default true;
+}
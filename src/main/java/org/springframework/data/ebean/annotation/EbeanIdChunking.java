@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Configures how the ids passed to {@code findAllById}, {@code findAll(String, Iterable)} and {@code deleteAllById} of
+ * the annotated repository are split into {@code IN} predicates. Without this annotation ids are split into chunks of
+ * {@value #DEFAULT_SIZE} sequentially.
+ *
+ * @author Xuegui Yuan
+ * @see org.springframework.data.ebean.util.InListSupport
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EbeanIdChunking {
+
+    int DEFAULT_SIZE = 1000;
+
+    /**
+     * Max number of ids per statement. Chunks of a find are padded to power of two sizes up to this size by repeating
+     * their last id, so the number of distinct statements stays small.
+     */
+    int size() default DEFAULT_SIZE;
+
+    /**
+     * Load the chunks of a find concurrently using Ebean's background executor, used only when there is no current
+     * transaction as each chunk runs in its own transaction. Defaults to {@literal false}.
+     */
+    boolean parallel() default false;
+}
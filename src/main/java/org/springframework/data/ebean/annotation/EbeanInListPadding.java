@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Pads the collection and array arguments bound to {@code IN} and {@code NOT IN} predicates of derived query methods
+ * and {@link Query} methods to bucketed sizes by repeating their last value, so that differently sized lists share a
+ * few SQL statements instead of producing a new one per size. Can be declared on a repository interface, applying to
+ * all its query methods, or on a single query method.
+ * <p>
+ * Padding only repeats values, the results are the same. The query plans executed per statement can be inspected with
+ * {@code Database.metaInfo().collectMetrics()}.
+ *
+ * @author Xuegui Yuan
+ * @see org.springframework.data.ebean.util.InListSupport
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EbeanInListPadding {
+
+    /**
+     * Largest power of two bucket, larger lists are padded to a multiple of it. Defaults to {@literal 1024}.
+     */
+    int maxSize() default 1024;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Configures how {@link org.springframework.data.domain.Page} results are loaded. Can be declared on a repository
+ * interface, applying to its {@code findAll(Pageable)} methods and all paged query methods, or on a single query
+ * method, overriding the repository setting.
+ *
+ * @author Xuegui Yuan
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EbeanPaging {
+
+    /**
+     * Run the total count query concurrently with the content query using {@link io.ebean.PagedList#loadCount()}.
+     * Defaults to {@literal false}.
+     * <p>
+     * The count query is executed by Ebean's background executor in its own transaction and therefore on its own
+     * connection, it never shares the caller's connection. When invoked inside an outer transaction the count only sees
+     * committed data: rows inserted or deleted but not yet committed by the outer transaction are not reflected in the
+     * total, and each page request needs a second connection from the pool. Leave this disabled where the total must be
+     * consistent with uncommitted changes.
+     */
+    boolean parallelCount() default false;
+
+    /**
+     * Cache the total count in the {@link org.springframework.data.ebean.cache.CountCache} configured for the
+     * repositories, keyed by entity type, predicate and bound parameter values. Defaults to {@literal false}.
+     * <p>
+     * Cached totals are evicted once their time to live expires and after saves, updates, deletes and modifying
+     * queries executed by the repositories. Changes made through the Ebean Database directly are only seen when a
+     * {@link org.springframework.data.ebean.cache.CountCacheInvalidator} is added to its
+     * {@link io.ebean.config.DatabaseConfig}, which has to be done by the application as persist listeners cannot be
+     * registered once the Database is created. Totals may be stale for changes bypassing all of these, e.g. plain SQL
+     * updates.
+     */
+    boolean cacheCount() default false;
+}
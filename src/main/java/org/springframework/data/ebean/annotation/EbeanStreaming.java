@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Configures how query methods returning a {@link java.util.stream.Stream} fetch their rows. Can be declared on a
+ * repository interface, applying to all its streaming query methods, or on a single query method, overriding the
+ * repository setting. Streaming query methods without this annotation use the defaults.
+ *
+ * @author Xuegui Yuan
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EbeanStreaming {
+
+    int DEFAULT_FETCH_SIZE = 1000;
+
+    int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * JDBC fetch size hint, the number of rows the driver fetches per round trip. Drivers like PostgreSQL otherwise
+     * buffer the complete result set in memory.
+     */
+    int fetchSize() default DEFAULT_FETCH_SIZE;
+
+    /**
+     * Number of beans lazy loading of the streamed entities loads per query.
+     */
+    int batchSize() default DEFAULT_BATCH_SIZE;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.cache;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of total counts of {@link org.springframework.data.domain.Page} queries.
+ *
+ * @author Xuegui Yuan
+ * @see org.springframework.data.ebean.annotation.EbeanPaging#cacheCount()
+ */
+public interface CountCache {
+
+    /**
+     * Return the cached count for the given key, loading and caching it on a miss.
+     *
+     * @param key    entity type, predicate and bound values of the count query.
+     * @param loader executes the count query.
+     * @return the count.
+     */
+    long get(CountCacheKey key, LongSupplier loader);
+
+    /**
+     * Evict all counts of the given entity type, including its super and sub types sharing its table.
+     *
+     * @param entityType the changed entity type.
+     */
+    void evict(Class<?> entityType);
+
+    /**
+     * Evict all counts.
+     */
+    void clear();
+
+    /**
+     * Return the hit, miss and eviction statistics of this cache.
+     *
+     * @return the statistics.
+     */
+    CountCacheStatistics getStatistics();
+}
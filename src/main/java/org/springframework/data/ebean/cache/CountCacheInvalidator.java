@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.cache;
+
+import io.ebean.Database;
+import io.ebean.Transaction;
+import io.ebean.TransactionCallbackAdapter;
+import io.ebean.event.BeanPersistListener;
+import org.springframework.util.Assert;
+
+import java.util.Set;
+
+/**
+ * {@link BeanPersistListener} evicting the cached counts of an entity type once inserts, updates or deletes of its
+ * beans are committed. Register it with the Ebean {@link io.ebean.config.DatabaseConfig}, e.g.
+ * {@code config.add(new CountCacheInvalidator(countCache))}.
+ * <p>
+ * Bulk updates and deletes by query do not notify persist listeners, repositories evict the counts for the ones they
+ * execute themselves via {@link #evictAfterCommit(Database, CountCache, Class)}.
+ *
+ * @author Xuegui Yuan
+ */
+public class CountCacheInvalidator implements BeanPersistListener {
+
+    private final CountCache countCache;
+
+    /**
+     * Creates a new {@link CountCacheInvalidator}.
+     *
+     * @param countCache must not be {@literal null}.
+     */
+    public CountCacheInvalidator(CountCache countCache) {
+        Assert.notNull(countCache, "CountCache must not be null!");
+        this.countCache = countCache;
+    }
+
+    /**
+     * Evict the counts of the given entity type now and again after the current transaction commits, if any.
+     *
+     * @param ebeanServer the Database the change is executed on.
+     * @param countCache  the cache to evict from.
+     * @param entityType  the changed entity type.
+     */
+    public static void evictAfterCommit(Database ebeanServer, CountCache countCache, Class<?> entityType) {
+        countCache.evict(entityType);
+        Transaction transaction = ebeanServer.currentTransaction();
+        if (transaction != null && transaction.isActive()) {
+            transaction.register(new TransactionCallbackAdapter() {
+                @Override
+                public void postCommit() {
+                    countCache.evict(entityType);
+                }
+            });
+        }
+    }
+
+    @Override
+    public boolean isRegisterFor(Class<?> cls) {
+        return true;
+    }
+
+    @Override
+    public void inserted(Object bean) {
+        countCache.evict(bean.getClass());
+    }
+
+    @Override
+    public void updated(Object bean, Set<String> updatedProperties) {
+        countCache.evict(bean.getClass());
+    }
+
+    @Override
+    public void deleted(Object bean) {
+        countCache.evict(bean.getClass());
+    }
+
+    @Override
+    public void softDeleted(Object bean) {
+        countCache.evict(bean.getClass());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.cache;
+
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Key of a cached count: the entity type, the normalized predicate and the values bound to it.
+ *
+ * @author Xuegui Yuan
+ */
+public final class CountCacheKey {
+
+    private final Class<?> entityType;
+    private final String predicate;
+    private final Object[] values;
+    private final int hashCode;
+
+    /**
+     * Creates a new {@link CountCacheKey}. Collection, array and {@link Date} values are copied, so that mutating an
+     * argument after the count was cached does not change the key.
+     *
+     * @param entityType must not be {@literal null}.
+     * @param predicate  normalized predicate, e.g. the query string or the query method, must not be {@literal null}.
+     * @param values     values bound to the predicate, must not be {@literal null}.
+     */
+    public CountCacheKey(Class<?> entityType, String predicate, Object... values) {
+        Assert.notNull(entityType, "Entity type must not be null!");
+        Assert.notNull(predicate, "Predicate must not be null!");
+        Assert.notNull(values, "Values must not be null!");
+
+        this.entityType = entityType;
+        this.predicate = predicate;
+        this.values = (Object[]) copyValue(values);
+        this.hashCode = Objects.hash(entityType, predicate, Arrays.deepHashCode(this.values));
+    }
+
+    /**
+     * Return a copy of the given value if it is a collection, an array or a date, the value itself otherwise.
+     */
+    private static Object copyValue(Object value) {
+        if (value instanceof Collection) {
+            List<Object> copy = new ArrayList<>(((Collection<?>) value).size());
+            for (Object element : (Collection<?>) value) {
+                copy.add(copyValue(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            Object[] copy = new Object[array.length];
+            for (int i = 0; i < array.length; i++) {
+                copy[i] = copyValue(array[i]);
+            }
+            return copy;
+        }
+        if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        return value;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public String getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CountCacheKey)) {
+            return false;
+        }
+        CountCacheKey that = (CountCacheKey) o;
+        return hashCode == that.hashCode
+                && entityType.equals(that.entityType)
+                && predicate.equals(that.predicate)
+                && Arrays.deepEquals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "CountCacheKey{" + entityType.getName() + ", " + predicate + ", " + Arrays.deepToString(values) + "}";
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.cache;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link CountCache} keeping counts in memory for a fixed time to live.
+ * <p>
+ * Counts loaded while an eviction happens are not cached, so an invalidation is never overwritten by a count read
+ * before the change was committed. Once {@code maximumSize} counts are cached expired entries are purged and new counts
+ * are not cached until there is room again.
+ *
+ * @author Xuegui Yuan
+ */
+public class TtlCountCache implements CountCache {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Map<CountCacheKey, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maximumSize;
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a new {@link TtlCountCache} holding up to 10000 counts.
+     *
+     * @param ttl time to live of cached counts, must be positive.
+     */
+    public TtlCountCache(Duration ttl) {
+        this(ttl, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new {@link TtlCountCache}.
+     *
+     * @param ttl         time to live of cached counts, must be positive.
+     * @param maximumSize maximum number of cached counts, must be positive.
+     */
+    public TtlCountCache(Duration ttl, int maximumSize) {
+        Assert.notNull(ttl, "Ttl must not be null!");
+        Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "Ttl must be positive!");
+        Assert.isTrue(maximumSize > 0, "Maximum size must be positive!");
+
+        this.ttlNanos = ttl.toNanos();
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public long get(CountCacheKey key, LongSupplier loader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (!entry.isExpired(now)) {
+                hitCount.increment();
+                return entry.count;
+            }
+            if (entries.remove(key, entry)) {
+                evictionCount.increment();
+            }
+        }
+        missCount.increment();
+
+        long evictionsBefore = evictions.get();
+        long count = loader.getAsLong();
+        if (evictions.get() == evictionsBefore && hasRoom()) {
+            entries.put(key, new Entry(count, System.nanoTime() + ttlNanos));
+        }
+        return count;
+    }
+
+    @Override
+    public void evict(Class<?> entityType) {
+        evictions.incrementAndGet();
+        entries.keySet().removeIf(key -> {
+            Class<?> type = key.getEntityType();
+            boolean related = type.isAssignableFrom(entityType) || entityType.isAssignableFrom(type);
+            if (related) {
+                evictionCount.increment();
+            }
+            return related;
+        });
+    }
+
+    @Override
+    public void clear() {
+        evictions.incrementAndGet();
+        int size = entries.size();
+        entries.clear();
+        evictionCount.add(size);
+    }
+
+    @Override
+    public CountCacheStatistics getStatistics() {
+        return new CountCacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), entries.size());
+    }
+
+    private boolean hasRoom() {
+        if (entries.size() < maximumSize) {
+            return true;
+        }
+        long now = System.nanoTime();
+        for (Iterator<Entry> it = entries.values().iterator(); it.hasNext(); ) {
+            if (it.next().isExpired(now)) {
+                it.remove();
+                evictionCount.increment();
+            }
+        }
+        return entries.size() < maximumSize;
+    }
+
+    private static final class Entry {
+
+        private final long count;
+        private final long expiresAt;
+
+        Entry(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Caching of total counts for paged queries.
+ */
+
+package org.springframework.data.ebean.cache;
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.querychannel;
+
+import io.ebean.Expr;
+import io.ebean.Expression;
+import io.ebean.ExpressionList;
+import org.springframework.data.ebean.annotation.ExprParam;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link QueryObjectBinder} compiled once per query object class from its fields and their {@link ExprParam}
+ * annotations. Each field is bound by a {@link MethodHandle} getter and an expression factory selected up front, so
+ * binding a query object does no reflection.
+ *
+ * @param <T> the query object type
+ * @author Xuegui Yuan
+ */
+public final class CompiledQueryObjectBinder<T> implements QueryObjectBinder<T> {
+
+    private static final ClassValue<CompiledQueryObjectBinder<?>> BINDERS = new ClassValue<CompiledQueryObjectBinder<?>>() {
+        @Override
+        protected CompiledQueryObjectBinder<?> computeValue(Class<?> type) {
+            return new CompiledQueryObjectBinder<>(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final FieldBinding[] bindings;
+
+    private CompiledQueryObjectBinder(Class<T> type) {
+        List<FieldBinding> bindings = new ArrayList<>();
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access fields of query object " + type.getName(), e);
+        }
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            FieldBinding binding = compile(lookup, field);
+            if (binding != null) {
+                bindings.add(binding);
+            }
+        }
+        this.bindings = bindings.toArray(new FieldBinding[0]);
+    }
+
+    /**
+     * Return the binder of the given query object class, compiled on first use.
+     *
+     * @param type the query object class.
+     * @param <T>  the query object type
+     * @return the binder.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompiledQueryObjectBinder<T> of(Class<T> type) {
+        return (CompiledQueryObjectBinder<T>) BINDERS.get(type);
+    }
+
+    @Override
+    public void bind(ExpressionList<?> expressionList, T queryObject) {
+        for (FieldBinding binding : bindings) {
+            Object value = binding.get(queryObject);
+            if (value == null && binding.escapeNull) {
+                continue;
+            }
+            expressionList.add(binding.expression.apply(value));
+        }
+    }
+
+    private static FieldBinding compile(MethodHandles.Lookup lookup, Field field) {
+        String param = field.getName();
+        ExprType exprType = ExprType.DEFAULT;
+        boolean ignoreCase = false;
+        boolean escapeNull = false;
+        ExprParam exprParam = field.getAnnotation(ExprParam.class);
+        if (exprParam != null) {
+            exprType = exprParam.expr();
+            ignoreCase = exprParam.ignoreCase();
+            escapeNull = exprParam.escapeNull();
+            if (StringUtils.hasText(exprParam.value())) {
+                param = exprParam.value();
+            }
+            if (StringUtils.hasText(exprParam.name())) {
+                param = exprParam.name();
+            }
+        }
+        Function<Object, Expression> expression = expression(param, exprType, ignoreCase, field.getType());
+        if (expression == null) {
+            return null;
+        }
+        try {
+            return new FieldBinding(lookup.unreflectGetter(field).asType(GETTER_TYPE), escapeNull, expression);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access query object field " + field, e);
+        }
+    }
+
+    /**
+     * Select the factory of the expression added for a field, {@literal null} if the field adds no expression.
+     */
+    static Function<Object, Expression> expression(String param, ExprType exprType, boolean ignoreCase, Class<?> type) {
+        boolean isString = type == String.class;
+        switch (exprType) {
+            case EQ:
+                if (isString && ignoreCase) {
+                    return value -> Expr.ieq(param, (String) value);
+                }
+                return value -> Expr.eq(param, value);
+            case NE:
+                return value -> Expr.ne(param, value);
+            case GE:
+                return value -> Expr.ge(param, value);
+            case GT:
+                return value -> Expr.gt(param, value);
+            case LE:
+                return value -> Expr.le(param, value);
+            case LT:
+                return value -> Expr.lt(param, value);
+            case LIKE:
+                if (!isString) {
+                    return null;
+                }
+                return ignoreCase ? value -> Expr.ilike(param, (String) value) : value -> Expr.like(param, (String) value);
+            case STARTS_WITH:
+                if (!isString) {
+                    return null;
+                }
+                return ignoreCase ? value -> Expr.istartsWith(param, (String) value)
+                        : value -> Expr.startsWith(param, (String) value);
+            case ENDS_WITH:
+                if (!isString) {
+                    return null;
+                }
+                return ignoreCase ? value -> Expr.iendsWith(param, (String) value)
+                        : value -> Expr.endsWith(param, (String) value);
+            case CONTAINS:
+                if (!isString) {
+                    return null;
+                }
+                return ignoreCase ? value -> Expr.icontains(param, (String) value)
+                        : value -> Expr.contains(param, (String) value);
+            case IN:
+                if (type.isArray()) {
+                    return value -> Expr.in(param, ObjectUtils.toObjectArray(value));
+                }
+                if (Collection.class.isAssignableFrom(type)) {
+                    return value -> Expr.in(param, (Collection<?>) value);
+                }
+                return expression(param, ExprType.DEFAULT, ignoreCase, type);
+            default:
+                if (isString) {
+                    return ignoreCase ? value -> Expr.icontains(param, (String) value)
+                            : value -> Expr.contains(param, (String) value);
+                }
+                return value -> Expr.eq(param, value);
+        }
+    }
+
+    private static final class FieldBinding {
+
+        private final MethodHandle getter;
+        private final boolean escapeNull;
+        private final Function<Object, Expression> expression;
+
+        FieldBinding(MethodHandle getter, boolean escapeNull, Function<Object, Expression> expression) {
+            this.getter = getter;
+            this.escapeNull = escapeNull;
+            this.expression = expression;
+        }
+
+        Object get(Object queryObject) {
+            try {
+                return (Object) getter.invokeExact(queryObject);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -20,14 +20,11 @@ import io.ebean.*;
 import io.ebean.text.PathProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.ebean.annotation.ExprParam;
-import org.springframework.data.ebean.annotation.IncludeFields;
 import org.springframework.data.ebean.util.Converters;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
-import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Map;
 
@@ -126,119 +123,10 @@ public class EbeanQueryChannelService implements QueryChannelService {
      * @param <T>            bean type.
      * @return the expressionList.
      */
+    @SuppressWarnings("unchecked")
     public static <T> ExpressionList<T> applyWhere(ExpressionList<T> expressionList, Object queryObject) {
         if (queryObject != null) {
-            Class clz = queryObject.getClass();
-            Field[] fields = clz.getDeclaredFields();
-            for (Field field : fields) {
-                field.setAccessible(true);
-                String param = field.getName();
-                Object value = null;
-                try {
-                    value = field.get(queryObject);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    break;
-                }
-                ExprType exprType = ExprType.DEFAULT;
-                boolean ignoreCase = false;
-                boolean escapeNull = true;
-                boolean isString = field.getType() == String.class;
-                boolean isArray = field.getType().isArray();
-                if (field.isAnnotationPresent(ExprParam.class)) {
-                    ExprParam exprParam = field.getAnnotation(ExprParam.class);
-                    String qpv = exprParam.value();
-                    String qpn = exprParam.name();
-                    exprType = exprParam.expr();
-                    ignoreCase = exprParam.ignoreCase();
-                    escapeNull = exprParam.escapeNull();
-                    if (escapeNull && value == null) {
-                        break;
-                    }
-                    if (StringUtils.hasText(qpv)) {
-                        param = qpv;
-                    }
-                    if (StringUtils.hasText(qpn)) {
-                        param = qpn;
-                    }
-                }
-                switch (exprType) {
-                    case EQ:
-                        if (isString && ignoreCase) {
-                            expressionList.add(Expr.ieq(param, (String) value));
-                        } else {
-                            expressionList.add(Expr.eq(param, value));
-                        }
-                        break;
-                    case NE:
-                        expressionList.add(Expr.ne(param, value));
-                        break;
-                    case GE:
-                        expressionList.add(Expr.ge(param, value));
-                        break;
-                    case GT:
-                        expressionList.add(Expr.gt(param, value));
-                        break;
-                    case LE:
-                        expressionList.add(Expr.le(param, value));
-                        break;
-                    case LT:
-                        expressionList.add(Expr.lt(param, value));
-                        break;
-                    case LIKE:
-                        if (isString) {
-                            if (ignoreCase) {
-                                expressionList.add(Expr.ilike(param, (String) value));
-                            } else {
-                                expressionList.add(Expr.like(param, (String) value));
-                            }
-                        }
-                        break;
-                    case STARTS_WITH:
-                        if (isString) {
-                            if (ignoreCase) {
-                                expressionList.add(Expr.istartsWith(param, (String) value));
-                            } else {
-                                expressionList.add(Expr.startsWith(param, (String) value));
-                            }
-                        }
-                        break;
-                    case ENDS_WITH:
-                        if (isString) {
-                            if (ignoreCase) {
-                                expressionList.add(Expr.iendsWith(param, (String) value));
-                            } else {
-                                expressionList.add(Expr.endsWith(param, (String) value));
-                            }
-                        }
-                        break;
-                    case CONTAINS:
-                        if (isString) {
-                            if (ignoreCase) {
-                                expressionList.add(Expr.icontains(param, (String) value));
-                            } else {
-                                expressionList.add(Expr.contains(param, (String) value));
-                            }
-                        }
-                        break;
-                    case IN:
-                        if (isArray) {
-                            expressionList.add(Expr.in(param, (Object[]) value));
-                        }
-                    default:
-                        if (isString) {
-                            if (ignoreCase) {
-                                expressionList.add(Expr.icontains(param, (String) value));
-                            } else {
-                                expressionList.add(Expr.contains(param, (String) value));
-                            }
-                        } else {
-                            expressionList.add(Expr.eq(param, value));
-                        }
-                        break;
-                }
-
-            }
+            QueryObjectBinders.binderFor((Class<Object>) queryObject.getClass()).bind(expressionList, queryObject);
         }
         return expressionList;
     }
@@ -349,10 +237,9 @@ public class EbeanQueryChannelService implements QueryChannelService {
     public static <T> Query<T> queryWithPage(ExpressionList<T> expressionList, Pageable pageable) {
         Assert.notNull(expressionList, "expressionList must not null");
         Assert.notNull(pageable, "pageable must not null");
-        return expressionList.setMaxRows(pageable.getPageSize())
+        return Converters.applySort(expressionList.setMaxRows(pageable.getPageSize())
                 .setFirstRow((int) pageable.getOffset())
-                .orderBy(Converters.convertToEbeanOrderBy(pageable.getSort()).toStringFormat())
-                .query();
+                .query(), pageable.getSort());
     }
 
     private static <T> Query<T> query(Database ebeanServer, Class<T> entityType,
@@ -365,12 +252,9 @@ public class EbeanQueryChannelService implements QueryChannelService {
         } else {
             // queryObject IncludePath
             if (queryObject != null) {
-                if (queryObject.getClass().isAnnotationPresent(IncludeFields.class)) {
-                    IncludeFields includeFields = queryObject.getClass().getAnnotation(IncludeFields.class);
-                    String ifs = includeFields.value();
-                    if (StringUtils.hasText(ifs)) {
-                        query.apply(PathProperties.parse(ifs));
-                    }
+                String ifs = QueryObjectBinders.getIncludeFields(queryObject.getClass());
+                if (StringUtils.hasText(ifs)) {
+                    query.apply(PathProperties.parse(ifs));
                 }
             }
         }
@@ -379,8 +263,8 @@ public class EbeanQueryChannelService implements QueryChannelService {
         applyWhere(expressionList, queryObject);
         if (pageable != null) {
             expressionList.setMaxRows(pageable.getPageSize())
-                    .setFirstRow((int) pageable.getOffset())
-                    .orderBy(Converters.convertToEbeanOrderBy(pageable.getSort()).toStringFormat());
+                    .setFirstRow((int) pageable.getOffset());
+            Converters.applySort(ebeanServer, query, pageable.getSort());
         }
         return expressionList.query();
     }
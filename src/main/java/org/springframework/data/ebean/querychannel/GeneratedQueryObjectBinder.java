@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.querychannel;
+
+/**
+ * {@link QueryObjectBinder} generated at compile time by the
+ * {@link org.springframework.data.ebean.querychannel.processor.QueryObjectBinderProcessor} and registered as a
+ * {@link java.util.ServiceLoader} service.
+ *
+ * @param <T> the query object type
+ * @author Xuegui Yuan
+ */
+public interface GeneratedQueryObjectBinder<T> extends QueryObjectBinder<T> {
+
+    /**
+     * Return the query object class this binder is generated for.
+     *
+     * @return the query object class.
+     */
+    Class<T> getQueryObjectType();
+
+    /**
+     * Return the fetch path of the query object's {@link org.springframework.data.ebean.annotation.IncludeFields}.
+     *
+     * @return the fetch path, {@literal null} if not annotated.
+     */
+    String getIncludeFields();
+}
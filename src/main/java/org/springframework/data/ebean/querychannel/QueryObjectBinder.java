@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.querychannel;
+
+import io.ebean.ExpressionList;
+
+/**
+ * Adds the expressions defined by a query object to an {@link ExpressionList}.
+ *
+ * @param <T> the query object type
+ * @author Xuegui Yuan
+ * @see EbeanQueryChannelService#applyWhere(ExpressionList, Object)
+ */
+@FunctionalInterface
+public interface QueryObjectBinder<T> {
+
+    /**
+     * Add the expressions defined by the query object to the expression list.
+     *
+     * @param expressionList the expressionList to add expr.
+     * @param queryObject    expr defined in, must not be {@literal null}.
+     */
+    void bind(ExpressionList<?> expressionList, T queryObject);
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.querychannel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.ebean.annotation.IncludeFields;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of {@link QueryObjectBinder}s. Binders generated at compile time are used when present, other query object
+ * classes are bound by a {@link CompiledQueryObjectBinder}.
+ *
+ * @author Xuegui Yuan
+ */
+public final class QueryObjectBinders {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryObjectBinders.class);
+
+    private static final ClassValue<QueryObjectBinder<?>> BINDERS = new ClassValue<QueryObjectBinder<?>>() {
+        @Override
+        protected QueryObjectBinder<?> computeValue(Class<?> type) {
+            QueryObjectBinder<?> binder = Generated.BINDERS.get(type);
+            return binder != null ? binder : CompiledQueryObjectBinder.of(type);
+        }
+    };
+
+    private static final ClassValue<String> INCLUDE_FIELDS = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            GeneratedQueryObjectBinder<?> binder = Generated.BINDERS.get(type);
+            if (binder != null) {
+                return binder.getIncludeFields();
+            }
+            IncludeFields includeFields = type.getAnnotation(IncludeFields.class);
+            return includeFields != null ? includeFields.value() : null;
+        }
+    };
+
+    private QueryObjectBinders() {
+    }
+
+    /**
+     * Return the binder of the given query object class.
+     *
+     * @param type the query object class.
+     * @param <T>  the query object type
+     * @return the generated binder if present, else the binder compiled at runtime.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> QueryObjectBinder<T> binderFor(Class<T> type) {
+        return (QueryObjectBinder<T>) BINDERS.get(type);
+    }
+
+    /**
+     * Return the fetch path declared by {@link IncludeFields} on the given query object class.
+     *
+     * @param type the query object class.
+     * @return the fetch path, {@literal null} if not annotated.
+     */
+    public static String getIncludeFields(Class<?> type) {
+        return INCLUDE_FIELDS.get(type);
+    }
+
+    /**
+     * Lazily loaded generated binders.
+     */
+    private static class Generated {
+
+        private static final Map<Class<?>, GeneratedQueryObjectBinder<?>> BINDERS = load();
+
+        @SuppressWarnings("rawtypes")
+        private static Map<Class<?>, GeneratedQueryObjectBinder<?>> load() {
+            Map<Class<?>, GeneratedQueryObjectBinder<?>> binders = new HashMap<>();
+            Iterator<GeneratedQueryObjectBinder> it = ServiceLoader
+                    .load(GeneratedQueryObjectBinder.class, QueryObjectBinders.class.getClassLoader())
+                    .iterator();
+            while (true) {
+                try {
+                    if (!it.hasNext()) {
+                        break;
+                    }
+                    GeneratedQueryObjectBinder<?> binder = it.next();
+                    binders.put(binder.getQueryObjectType(), binder);
+                } catch (ServiceConfigurationError e) {
+                    LOG.warn("Skipping generated query object binder: {}", e.getMessage());
+                }
+            }
+            return binders;
+        }
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.querychannel.processor;
+
+import org.springframework.data.ebean.annotation.ExprParam;
+import org.springframework.data.ebean.annotation.IncludeFields;
+import org.springframework.data.ebean.querychannel.ExprType;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor generating a
+ * {@link org.springframework.data.ebean.querychannel.GeneratedQueryObjectBinder} for each query object class using
+ * {@link ExprParam} or {@link IncludeFields}. The generated binder reads the fields directly or through their getters
+ * and calls the {@link io.ebean.ExpressionList} methods selected at compile time, binding the same expressions as
+ * {@link org.springframework.data.ebean.querychannel.CompiledQueryObjectBinder}.
+ * <p>
+ * Generated binders are registered in {@code META-INF/services} and picked up by
+ * {@link org.springframework.data.ebean.querychannel.QueryObjectBinders}. Classes whose fields can not be read from
+ * their package, e.g. private fields without getters, are skipped with a note and bound at runtime instead.
+ * <p>
+ * The processor is discovered by every compilation having this library on its annotation processor path but is a
+ * no-op unless enabled with the {@code -Aspring.data.ebean.generateQueryObjectBinders} compiler option.
+ *
+ * @author Xuegui Yuan
+ */
+@SupportedAnnotationTypes({
+        "org.springframework.data.ebean.annotation.ExprParam",
+        "org.springframework.data.ebean.annotation.IncludeFields"})
+public class QueryObjectBinderProcessor extends AbstractProcessor {
+
+    /**
+     * Compiler option enabling the generation of binders, e.g. {@code -Aspring.data.ebean.generateQueryObjectBinders}.
+     */
+    public static final String GENERATE_OPTION = "spring.data.ebean.generateQueryObjectBinders";
+
+    static final String BINDER_SUFFIX = "__QueryObjectBinder";
+
+    private static final String SERVICE_FILE =
+            "META-INF/services/org.springframework.data.ebean.querychannel.GeneratedQueryObjectBinder";
+
+    private final Set<String> binders = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(GENERATE_OPTION);
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!isEnabled()) {
+            return false;
+        }
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        Set<TypeElement> queryObjectTypes = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(ExprParam.class)) {
+            queryObjectTypes.add((TypeElement) element.getEnclosingElement());
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(IncludeFields.class)) {
+            queryObjectTypes.add((TypeElement) element);
+        }
+        for (TypeElement type : queryObjectTypes) {
+            generate(type);
+        }
+        return false;
+    }
+
+    private boolean isEnabled() {
+        Map<String, String> options = processingEnv.getOptions();
+        if (!options.containsKey(GENERATE_OPTION)) {
+            return false;
+        }
+        String value = options.get(GENERATE_OPTION);
+        return value == null || Boolean.parseBoolean(value);
+    }
+
+    private void generate(TypeElement type) {
+        if (!isAccessible(type)) {
+            note(type, "not accessible from its package");
+            return;
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            note(type, "generic");
+            return;
+        }
+        String typeName = type.getQualifiedName().toString();
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binderName = binaryName(type).substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                .replace('$', '_') + BINDER_SUFFIX;
+
+        StringBuilder body = new StringBuilder();
+        int index = 0;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            String read = read(type, field);
+            if (read == null) {
+                note(type, "field " + field.getSimpleName() + " is private and has no getter");
+                return;
+            }
+            appendBinding(body, field, "v" + index++, read);
+        }
+
+        IncludeFields includeFields = type.getAnnotation(IncludeFields.class);
+        String includeFieldsLiteral = includeFields != null ? literal(includeFields.value()) : "null";
+        String qualifiedBinderName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedBinderName, type);
+            try (PrintWriter out = new PrintWriter(file.openWriter())) {
+                if (!packageName.isEmpty()) {
+                    out.println("package " + packageName + ";");
+                    out.println();
+                }
+                out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+                out.println("public final class " + binderName
+                        + " implements org.springframework.data.ebean.querychannel.GeneratedQueryObjectBinder<"
+                        + typeName + "> {");
+                out.println();
+                out.println("    @Override");
+                out.println("    public Class<" + typeName + "> getQueryObjectType() {");
+                out.println("        return " + typeName + ".class;");
+                out.println("    }");
+                out.println();
+                out.println("    @Override");
+                out.println("    public String getIncludeFields() {");
+                out.println("        return " + includeFieldsLiteral + ";");
+                out.println("    }");
+                out.println();
+                out.println("    @Override");
+                out.println("    public void bind(io.ebean.ExpressionList<?> expressionList, " + typeName + " queryObject) {");
+                out.print(body);
+                out.println("    }");
+                out.println("}");
+            }
+            binders.add(qualifiedBinderName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not generate query object binder: " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Append the statements binding one field, see CompiledQueryObjectBinder#expression for the rules.
+     */
+    private void appendBinding(StringBuilder body, VariableElement field, String var, String read) {
+        String param = field.getSimpleName().toString();
+        ExprType exprType = ExprType.DEFAULT;
+        boolean ignoreCase = false;
+        boolean escapeNull = false;
+        ExprParam exprParam = field.getAnnotation(ExprParam.class);
+        if (exprParam != null) {
+            exprType = exprParam.expr();
+            ignoreCase = exprParam.ignoreCase();
+            escapeNull = exprParam.escapeNull();
+            if (!exprParam.value().trim().isEmpty()) {
+                param = exprParam.value();
+            }
+            if (!exprParam.name().trim().isEmpty()) {
+                param = exprParam.name();
+            }
+        }
+        TypeMirror fieldType = field.asType();
+        String call = call(literal(param), exprType, ignoreCase, fieldType, var);
+        if (call == null) {
+            return;
+        }
+        boolean primitive = fieldType.getKind().isPrimitive();
+        body.append("        Object ").append(var).append(" = ").append(read).append(";\n");
+        if (escapeNull && !primitive) {
+            body.append("        if (").append(var).append(" != null) {\n");
+            body.append("            expressionList.").append(call).append(";\n");
+            body.append("        }\n");
+        } else {
+            body.append("        expressionList.").append(call).append(";\n");
+        }
+    }
+
+    private String call(String param, ExprType exprType, boolean ignoreCase, TypeMirror type, String var) {
+        boolean isString = isType(type, String.class.getName());
+        String string = "(String) " + var;
+        switch (exprType) {
+            case EQ:
+                if (isString && ignoreCase) {
+                    return "ieq(" + param + ", " + string + ")";
+                }
+                return "eq(" + param + ", " + var + ")";
+            case NE:
+                return "ne(" + param + ", " + var + ")";
+            case GE:
+                return "ge(" + param + ", " + var + ")";
+            case GT:
+                return "gt(" + param + ", " + var + ")";
+            case LE:
+                return "le(" + param + ", " + var + ")";
+            case LT:
+                return "lt(" + param + ", " + var + ")";
+            case LIKE:
+                return isString ? (ignoreCase ? "ilike(" : "like(") + param + ", " + string + ")" : null;
+            case STARTS_WITH:
+                return isString ? (ignoreCase ? "istartsWith(" : "startsWith(") + param + ", " + string + ")" : null;
+            case ENDS_WITH:
+                return isString ? (ignoreCase ? "iendsWith(" : "endsWith(") + param + ", " + string + ")" : null;
+            case CONTAINS:
+                return isString ? (ignoreCase ? "icontains(" : "contains(") + param + ", " + string + ")" : null;
+            case IN:
+                if (type.getKind() == TypeKind.ARRAY) {
+                    return "in(" + param + ", org.springframework.util.ObjectUtils.toObjectArray(" + var + "))";
+                }
+                if (isCollection(type)) {
+                    return "in(" + param + ", (java.util.Collection<?>) " + var + ")";
+                }
+                return call(param, ExprType.DEFAULT, ignoreCase, type, var);
+            default:
+                if (isString) {
+                    return (ignoreCase ? "icontains(" : "contains(") + param + ", " + string + ")";
+                }
+                return "eq(" + param + ", " + var + ")";
+        }
+    }
+
+    /**
+     * Return the expression reading the field from {@code queryObject}, {@literal null} if it is not readable.
+     */
+    private String read(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return "queryObject." + name;
+        }
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        boolean primitiveBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+        String getter = (primitiveBoolean ? "is" : "get") + capitalized;
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(getter) && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                return "queryObject." + getter + "()";
+            }
+        }
+        // getters generated by Lombok are not visible to processors running in the same round
+        if (hasLombokGetter(type) || hasLombokGetter(field)) {
+            return "queryObject." + getter + "()";
+        }
+        return null;
+    }
+
+    private static boolean hasLombokGetter(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String name = annotation.getAnnotationType().toString();
+            if (name.equals("lombok.Data") || name.equals("lombok.Getter") || name.equals("lombok.Value")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isType(TypeMirror type, String name) {
+        return type.getKind() == TypeKind.DECLARED
+                && processingEnv.getTypeUtils().erasure(type).toString().equals(name);
+    }
+
+    private boolean isCollection(TypeMirror type) {
+        TypeElement collection = processingEnv.getElementUtils().getTypeElement("java.util.Collection");
+        return type.getKind() == TypeKind.DECLARED && processingEnv.getTypeUtils()
+                .isAssignable(processingEnv.getTypeUtils().erasure(type),
+                        processingEnv.getTypeUtils().erasure(collection.asType()));
+    }
+
+    private static boolean isAccessible(TypeElement type) {
+        for (Element element = type; element.getKind() != ElementKind.PACKAGE; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (element instanceof TypeElement && ((TypeElement) element).getNestingKind() == NestingKind.MEMBER
+                    && !element.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void note(TypeElement type, String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "No query object binder generated, " + reason + ", binding at runtime instead", type);
+    }
+
+    /**
+     * Write the service file, keeping binders registered by earlier incremental compilations.
+     */
+    private void writeServiceFile() {
+        if (binders.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        Set<String> all = new LinkedHashSet<>();
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Reader reader = new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8);
+                 BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        all.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // no service file yet
+        }
+        all.addAll(binders);
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String binder : all) {
+                    writer.write(binder);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Compile time generation of query object binders.
+ */
+
+package org.springframework.data.ebean.querychannel.processor;
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.repository;
+
+import org.springframework.data.ebean.annotation.EbeanBatch;
+import org.springframework.util.Assert;
+
+/**
+ * Options of batched writes: the entities are written in a transaction in JDBC batch mode, joining the current
+ * transaction if there is one, and the batch is flushed every {@link #getBatchSize()} rows so only one batch of
+ * statements is held in memory.
+ *
+ * @author Xuegui Yuan
+ * @see EbeanRepository#saveAll(Iterable, BatchOptions)
+ * @see EbeanBatch
+ */
+public final class BatchOptions {
+
+    private final int batchSize;
+    private final boolean getGeneratedKeys;
+
+    private BatchOptions(int batchSize, boolean getGeneratedKeys) {
+        Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+        this.batchSize = batchSize;
+        this.getGeneratedKeys = getGeneratedKeys;
+    }
+
+    /**
+     * Return options writing batches of the given size, fetching generated keys.
+     *
+     * @param batchSize number of statements per JDBC batch, must be greater than zero.
+     * @return the options.
+     */
+    public static BatchOptions of(int batchSize) {
+        return new BatchOptions(batchSize, true);
+    }
+
+    /**
+     * Return the options declared by the given annotation.
+     *
+     * @param batch must not be {@literal null}.
+     * @return the options.
+     */
+    public static BatchOptions of(EbeanBatch batch) {
+        return new BatchOptions(batch.size(), batch.getGeneratedKeys());
+    }
+
+    /**
+     * Return a copy of these options with fetching of generated keys enabled or disabled. Disabling it is safe when
+     * the ids are assigned by the application or sequences, or not needed after the insert.
+     *
+     * @param getGeneratedKeys whether generated keys are fetched.
+     * @return the options.
+     */
+    public BatchOptions withGetGeneratedKeys(boolean getGeneratedKeys) {
+        return new BatchOptions(batchSize, getGeneratedKeys);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public boolean isGetGeneratedKeys() {
+        return getGeneratedKeys;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchOptions{batchSize=" + batchSize + ", getGeneratedKeys=" + getGeneratedKeys + "}";
+    }
+}
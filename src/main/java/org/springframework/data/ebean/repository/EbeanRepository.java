@@ -22,15 +22,21 @@ import io.ebean.UpdateQuery;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Ebean specific extension of {@link org.springframework.data.repository.Repository}.
@@ -87,6 +93,114 @@ public interface EbeanRepository<T, ID> extends PagingAndSortingRepository<T, ID
      */
     Iterable<T> updateAll(Iterable<T> entities);
 
+    /**
+     * Saves all given entities in JDBC batches.
+     *
+     * @param entities must not be {@literal null}.
+     * @param options  batch size and generated keys handling, must not be {@literal null}.
+     * @param <S>      entity extends T
+     * @return the saved entities
+     */
+    <S extends T> Iterable<S> saveAll(Iterable<S> entities, BatchOptions options);
+
+    /**
+     * Update entities which is not loaded in JDBC batches.
+     *
+     * @param entities entities to update
+     * @param options  batch size and generated keys handling, must not be {@literal null}.
+     * @return entities Updated entities list
+     */
+    Iterable<T> updateAll(Iterable<T> entities, BatchOptions options);
+
+    /**
+     * Saves all entities of the given stream in chunks, each chunk written in a JDBC batch. Entities are pulled
+     * lazily and each chunk is written before the next one is pulled, so the stream is never collected into memory.
+     * The stream is closed afterwards.
+     * <p>
+     * Without a current transaction each chunk is committed in a transaction of its own, so memory stays flat however
+     * many entities are saved, and the chunks committed before a failure stay saved. Within a current transaction the
+     * chunks join it and are only flushed, they are committed or rolled back with it. Its persistence context then
+     * holds every saved entity until it ends, so large imports should not run in a surrounding transaction.
+     *
+     * @param entities must not be {@literal null}.
+     * @param <S>      entity extends T
+     * @return the number of saved entities
+     */
+    <S extends T> long saveAll(Stream<S> entities);
+
+    /**
+     * Saves all entities of the given iterator in chunks, each chunk written in a JDBC batch.
+     *
+     * @param entities must not be {@literal null}.
+     * @param <S>      entity extends T
+     * @return the number of saved entities
+     * @see #saveAll(Stream)
+     */
+    <S extends T> long saveAll(Iterator<S> entities);
+
+    /**
+     * Visits all entities in parallel, split into partitions by ranges of their numeric ids. Each partition is read
+     * with its own connection and persistence context on the async executor, outside of the caller's transaction.
+     *
+     * @param partitions max number of partitions, must be greater than zero.
+     * @param action     called concurrently for each entity, must be thread safe.
+     * @return the statistics of each partition
+     * @throws IllegalArgumentException if the entity does not have a numeric id
+     */
+    List<PartitionStatistics> findAllPartitioned(int partitions, Consumer<? super T> action);
+
+    /**
+     * Visits all entities in parallel, reporting the progress of the partitions.
+     *
+     * @param partitions max number of partitions, must be greater than zero.
+     * @param action     called concurrently for each entity, must be thread safe.
+     * @param progress   called concurrently with the progress of a partition every
+     *                   {@link org.springframework.data.ebean.util.PartitionSupport#PROGRESS_INTERVAL} entities and
+     *                   once it completed.
+     * @return the statistics of each partition
+     * @see #findAllPartitioned(int, Consumer)
+     */
+    List<PartitionStatistics> findAllPartitioned(int partitions, Consumer<? super T> action,
+                                                 Consumer<PartitionStatistics> progress);
+
+    /**
+     * Visits all entities one by one without loading them into a list. The entities are read from a single cursor
+     * into a persistence context of the query rather than the transaction, so memory use does not grow with the
+     * number of entities.
+     *
+     * @param action called for each entity, must not be {@literal null}.
+     */
+    void findEach(Consumer<T> action);
+
+    /**
+     * Visits all entities until the given predicate returns {@literal false}.
+     *
+     * @param action called for each entity, returns whether to continue, must not be {@literal null}.
+     * @see #findEach(Consumer)
+     */
+    void findEachWhile(Predicate<T> action);
+
+    /**
+     * Visits all entities matching the given {@link Example} one by one, selecting the properties of the given
+     * FetchPath string.
+     *
+     * @param fetchPath FetchPath string.
+     * @param example   must not be {@literal null}.
+     * @param action    called for each entity, must not be {@literal null}.
+     * @see #findEach(Consumer)
+     */
+    <S extends T> void findEach(String fetchPath, Example<S> example, Consumer<S> action);
+
+    /**
+     * Visits all entities in batches of the given size, each batch is loaded, handed to the action and released
+     * before the next batch is read.
+     *
+     * @param batchSize number of entities per batch, must be greater than zero.
+     * @param action    called for each batch, must not be {@literal null}.
+     * @see #findEach(Consumer)
+     */
+    void findEach(int batchSize, Consumer<List<T>> action);
+
     /**
      * Deletes the entity permanent with the given id.
      *
@@ -224,6 +338,28 @@ public interface EbeanRepository<T, ID> extends PagingAndSortingRepository<T, ID
      */
     List<T> findAll(String fetchPath, Sort sort);
 
+    /**
+     * Returns a {@link Window} of entities at the given {@link ScrollPosition}. A keyset position seeks past the last
+     * seen sort key values instead of skipping an offset, so deep windows stay as cheap as the first one.
+     *
+     * @param position keyset or offset position, use {@link ScrollPosition#keyset()} to start scrolling.
+     * @param sort     order by, the id property is appended to make keysets unique.
+     * @param limit    max number of entities in the window.
+     * @return a window of entities.
+     */
+    Window<T> findAll(ScrollPosition position, Sort sort, int limit);
+
+    /**
+     * Returns a {@link Window} of entities matching the given {@link Example} at the given {@link ScrollPosition}.
+     *
+     * @param example  must not be {@literal null}.
+     * @param position keyset or offset position, use {@link ScrollPosition#keyset()} to start scrolling.
+     * @param sort     order by, the id property is appended to make keysets unique.
+     * @param limit    max number of entities in the window.
+     * @return a window of entities matching the given {@link Example}.
+     */
+    <S extends T> Window<S> findAll(Example<S> example, ScrollPosition position, Sort sort, int limit);
+
     /**
      * Returns a {@link Page} of entities meeting the paging restriction provided in the {@code Pageable} object.
      * and select return entity properties with FetchPath string.
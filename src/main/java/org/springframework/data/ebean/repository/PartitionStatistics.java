@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.repository;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Progress of one id range partition of a partitioned scan, see
+ * {@link EbeanRepository#findAllPartitioned(int, java.util.function.Consumer, java.util.function.Consumer)}.
+ *
+ * @author Xuegui Yuan
+ */
+public final class PartitionStatistics {
+
+    private final int partition;
+    private final long firstId;
+    private final long lastId;
+    private final long rows;
+    private final long elapsedNanos;
+    private final boolean completed;
+
+    public PartitionStatistics(int partition, long firstId, long lastId, long rows, long elapsedNanos,
+                               boolean completed) {
+        this.partition = partition;
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.rows = rows;
+        this.elapsedNanos = elapsedNanos;
+        this.completed = completed;
+    }
+
+    /**
+     * Index of the partition, starting at {@literal 0}.
+     */
+    public int getPartition() {
+        return partition;
+    }
+
+    /**
+     * First id of the partition's id range, inclusive.
+     */
+    public long getFirstId() {
+        return firstId;
+    }
+
+    /**
+     * Last id of the partition's id range, inclusive.
+     */
+    public long getLastId() {
+        return lastId;
+    }
+
+    /**
+     * Number of entities visited so far.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Time spent on the partition so far.
+     */
+    public long getElapsed(TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Whether all entities of the partition were visited.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Entities visited per second, {@literal 0} before any time elapsed.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : rows * 1_000_000_000d / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionStatistics{partition=" + partition + ", ids=[" + firstId + ", " + lastId + "], rows=" + rows
+                + ", elapsedMs=" + getElapsed(TimeUnit.MILLISECONDS) + ", rowsPerSecond=" + (long) getThroughput()
+                + ", completed=" + completed + "}";
+    }
+}
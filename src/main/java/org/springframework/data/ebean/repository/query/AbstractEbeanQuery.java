@@ -17,10 +17,20 @@
 package org.springframework.data.ebean.repository.query;
 
 import io.ebean.Database;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.ebean.cache.CountCache;
+import org.springframework.data.ebean.cache.CountCacheKey;
+import org.springframework.data.ebean.util.AsyncSupport;
 import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.util.Assert;
 
+import java.util.concurrent.Executor;
+
 import static org.springframework.data.ebean.repository.query.AbstractEbeanQueryExecution.*;
 
 /**
@@ -32,6 +42,9 @@ public abstract class AbstractEbeanQuery implements RepositoryQuery {
 
     private final EbeanQueryMethod method;
     private final Database ebeanServer;
+    private CountCache countCache;
+    private Executor asyncExecutor = AsyncSupport.defaultExecutor();
+    private volatile AbstractEbeanQueryExecution execution;
 
     /**
      * Creates a new {@link AbstractEbeanQuery} from the given {@link EbeanQueryMethod}.
@@ -57,9 +70,79 @@ public abstract class AbstractEbeanQuery implements RepositoryQuery {
         return ebeanServer;
     }
 
+    /**
+     * Returns the {@link CountCache} of the repository.
+     *
+     * @return may be {@literal null} if no cache is configured.
+     */
+    CountCache getCountCache() {
+        return countCache;
+    }
+
+    void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
+    /**
+     * Configures the executor of query methods returning a {@link java.util.concurrent.CompletableFuture}.
+     *
+     * @param asyncExecutor may be {@literal null} to use {@link AsyncSupport#defaultExecutor()}.
+     */
+    void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor != null ? asyncExecutor : AsyncSupport.defaultExecutor();
+        this.execution = null;
+    }
+
+    /**
+     * Returns the normalized predicate identifying the count query of this query independent of the bound values.
+     *
+     * @return the predicate, or {@literal null} if the count must not be cached.
+     */
+    protected String getCountPredicate() {
+        return method.toString();
+    }
+
+    /**
+     * Creates the {@link CountCacheKey} of the count query for the given parameters.
+     *
+     * @param accessor must not be {@literal null}.
+     * @return the key, or {@literal null} if the count must not be cached.
+     */
+    CountCacheKey createCountKey(ParameterAccessor accessor) {
+        String predicate = getCountPredicate();
+        if (predicate == null) {
+            return null;
+        }
+        Object[] values = new Object[method.getParameters().getBindableParameters().getNumberOfParameters()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = accessor.getBindableValue(i);
+        }
+        return new CountCacheKey(method.getEntityInformation().getJavaType(), predicate, values);
+    }
+
     @Override
     public Object execute(Object[] parameters) {
-        return doExecute(getExecution(), parameters);
+        return doExecute(resolveExecution(), parameters);
+    }
+
+    /**
+     * Returns the {@link AbstractEbeanQueryExecution} of the method, resolved on first access only. The lookup strategy
+     * resolves it at bootstrap.
+     *
+     * @return
+     */
+    AbstractEbeanQueryExecution resolveExecution() {
+        AbstractEbeanQueryExecution execution = this.execution;
+        if (execution == null) {
+            execution = getExecution();
+            if (method.isReactiveQuery()) {
+                execution = new ReactiveQueryExecution(method.isFluxQuery(), execution);
+            } else if (method.isAsyncQuery()) {
+                execution = new AsyncExecution(execution, asyncExecutor);
+            }
+            this.execution = execution;
+        }
+        return execution;
     }
 
     @Override
@@ -77,9 +160,16 @@ public abstract class AbstractEbeanQuery implements RepositoryQuery {
         return result;
     }
 
+    /**
+     * Creates the {@link AbstractEbeanQueryExecution} of the method, called once per query.
+     *
+     * @return
+     */
     protected AbstractEbeanQueryExecution getExecution() {
         if (method.isStreamQuery()) {
             return new StreamExecution();
+        } else if (method.isScrollQuery()) {
+            return new ScrollExecution(method.getParameters());
         } else if (method.isCollectionQuery()) {
             return new AbstractEbeanQueryExecution.CollectionExecution();
         } else if (method.isSliceQuery()) {
@@ -93,8 +183,64 @@ public abstract class AbstractEbeanQuery implements RepositoryQuery {
         }
     }
 
+    /**
+     * Returns the {@link ResultProcessor} of the method, applying the dynamic projection of the given parameters if the
+     * method declares one. Otherwise the processor resolved by the method at bootstrap is returned.
+     *
+     * @param values must not be {@literal null}.
+     * @return
+     */
+    protected ResultProcessor getResultProcessor(Object[] values) {
+        ResultProcessor processor = method.getResultProcessor();
+        if (!method.getParameters().hasDynamicProjection()) {
+            return processor;
+        }
+        return processor.withDynamicProjection(new ParametersParameterAccessor(method.getParameters(), values));
+    }
+
+    /**
+     * Converts the entities of the given result into the projection returned by the method, if any. DTO classes and
+     * records are instantiated from the entity properties named like their constructor parameters.
+     *
+     * @param result may be {@literal null}.
+     * @param values must not be {@literal null}.
+     * @return
+     */
+    Object processResult(Object result, Object[] values) {
+        return processResult(result, getResultProcessor(values));
+    }
+
+    /**
+     * Converts the entities of the given result into the projection of the given {@link ResultProcessor}.
+     *
+     * @param result    may be {@literal null}.
+     * @param processor must not be {@literal null}.
+     * @return
+     */
+    Object processResult(Object result, ResultProcessor processor) {
+        ReturnedType returnedType = processor.getReturnedType();
+        if (!returnedType.isProjecting()) {
+            return result;
+        }
+        if (returnedType.getReturnedType().isInterface()) {
+            return processor.processResult(result);
+        }
+        return processor.processResult(result, DtoInstantiatingConverter.of(returnedType.getReturnedType()));
+    }
+
+    /**
+     * Returns the {@link Sort} to be applied to the query for the given parameters.
+     *
+     * @param accessor must not be {@literal null}.
+     * @return will never be {@literal null}.
+     */
+    protected Sort getSort(ParameterAccessor accessor) {
+        return accessor.getSort();
+    }
+
     protected ParameterBinder createBinder(Object[] values) {
-        return new ParameterBinder((DefaultParameters) getQueryMethod().getParameters(), values);
+        return new ParameterBinder((DefaultParameters) getQueryMethod().getParameters(),
+                getQueryMethod().getBindingPlan(), values);
     }
 
     protected EbeanQueryWrapper createQuery(Object[] values) {
@@ -18,13 +18,22 @@ package org.springframework.data.ebean.repository.query;
 
 import io.ebean.Database;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.ebean.cache.CountCache;
+import org.springframework.data.ebean.cache.CountCacheInvalidator;
+import org.springframework.data.ebean.cache.CountCacheKey;
 import org.springframework.data.repository.core.support.SurroundingTransactionDetectorMethodInterceptor;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Set of classes to contain query execution strategies. Depending (mostly) on the return type of a
  * {@link org.springframework.data.repository.query.QueryMethod} a {@link AbstractStringBasedEbeanQuery} can be executed
@@ -45,7 +54,19 @@ public abstract class AbstractEbeanQueryExecution {
         Assert.notNull(query, "AbstractEbeanQuery must not be null!");
         Assert.notNull(values, "Values must not be null!");
 
-        return doExecute(query, values);
+        return postProcess(query, values, doExecute(query, values));
+    }
+
+    /**
+     * Converts the result of {@link #doExecute(AbstractEbeanQuery, Object[])} into the projection of the query method.
+     *
+     * @param query
+     * @param values
+     * @param result
+     * @return
+     */
+    protected Object postProcess(AbstractEbeanQuery query, Object[] values, Object result) {
+        return query.processResult(result, values);
     }
 
     /**
@@ -57,6 +78,20 @@ public abstract class AbstractEbeanQueryExecution {
      */
     protected abstract Object doExecute(AbstractEbeanQuery query, Object[] values);
 
+    /**
+     * Evicts the cached counts of the query's entity type after a modification.
+     *
+     * @param query
+     * @param ebeanServer
+     */
+    static void evictCounts(AbstractEbeanQuery query, Database ebeanServer) {
+        CountCache countCache = query.getCountCache();
+        if (countCache != null) {
+            CountCacheInvalidator.evictAfterCommit(ebeanServer, countCache,
+                    query.getQueryMethod().getEntityInformation().getJavaType());
+        }
+    }
+
     /**
      * Executes the query to return a simple collection of entities.
      */
@@ -100,6 +135,47 @@ public abstract class AbstractEbeanQueryExecution {
         }
     }
 
+    /**
+     * Executes the query to return a {@link Window} of entities at the {@link org.springframework.data.domain.ScrollPosition}
+     * given as method parameter. The limit is taken from a {@link Limit} parameter or the Top/First keyword.
+     *
+     * @author Xuegui Yuan
+     */
+    static class ScrollExecution extends AbstractEbeanQueryExecution {
+
+        private final Parameters<?, ?> parameters;
+
+        /**
+         * Creates a new {@link ScrollExecution} using the given {@link Parameters}.
+         *
+         * @param parameters must not be {@literal null}.
+         */
+        public ScrollExecution(Parameters<?, ?> parameters) {
+            this.parameters = parameters;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Object doExecute(AbstractEbeanQuery query, Object[] values) {
+            ParametersParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
+            EbeanQueryWrapper createQuery = query.createQuery(values);
+
+            Limit limit = accessor.getLimit();
+            int maxResults;
+            if (limit.isLimited()) {
+                maxResults = limit.max();
+            } else if (createQuery.getMaxRows() > 0 && createQuery.getMaxRows() != Integer.MAX_VALUE) {
+                maxResults = createQuery.getMaxRows();
+            } else {
+                throw new InvalidDataAccessApiUsageException(
+                        "Scroll queries require a limit, use a Limit parameter or the Top/First keyword: " + query.getQueryMethod());
+            }
+
+            return createQuery.findWindow(query.getEbeanServer(), query.getQueryMethod().getEntityInformation().getJavaType(),
+                    accessor.getScrollPosition(), query.getSort(accessor), maxResults);
+        }
+    }
+
     /**
      * Executes the {@link AbstractStringBasedEbeanQuery} to return a {@link org.springframework.data.domain.Page} of
      * entities.
@@ -118,7 +194,10 @@ public abstract class AbstractEbeanQueryExecution {
         protected Object doExecute(final AbstractEbeanQuery repositoryQuery, final Object[] values) {
             ParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
             EbeanQueryWrapper createQuery = repositoryQuery.createQuery(values);
-            return createQuery.findPage(accessor.getPageable());
+            EbeanQueryMethod method = repositoryQuery.getQueryMethod();
+            CountCache countCache = method.isCacheCount() ? repositoryQuery.getCountCache() : null;
+            CountCacheKey countKey = countCache != null ? repositoryQuery.createCountKey(accessor) : null;
+            return createQuery.findPage(accessor.getPageable(), method.isParallelCount(), countCache, countKey);
         }
     }
 
@@ -144,26 +223,21 @@ public abstract class AbstractEbeanQueryExecution {
 
         /**
          * Creates an execution that automatically clears the given {@link Database} after execution if the given
-         * {@link Database} is not {@literal null}.
+         * {@link Database} is not {@literal null}. The return type of the method is validated by
+         * {@link EbeanQueryMethod}.
          *
          * @param ebeanServer
          */
         public UpdateExecution(EbeanQueryMethod method, Database ebeanServer) {
-
-            Class<?> returnType = method.getReturnType();
-
-            boolean isVoid = void.class.equals(returnType) || Void.class.equals(returnType);
-            boolean isInt = int.class.equals(returnType) || Integer.class.equals(returnType);
-
-            Assert.isTrue(isInt || isVoid, "Modifying queries can only use void or int/Integer as return type!");
-
             this.ebeanServer = ebeanServer;
         }
 
         @Override
         protected Object doExecute(AbstractEbeanQuery query, Object[] values) {
             EbeanQueryWrapper createQuery = query.createQuery(values);
-            return createQuery.update();
+            int updated = createQuery.update();
+            evictCounts(query, ebeanServer);
+            return updated;
         }
     }
 
@@ -187,12 +261,15 @@ public abstract class AbstractEbeanQueryExecution {
         @Override
         protected Object doExecute(AbstractEbeanQuery ebeanQuery, Object[] values) {
             EbeanQueryWrapper createQuery = ebeanQuery.createQuery(values);
-            return createQuery.delete();
+            int deleted = createQuery.delete();
+            evictCounts(ebeanQuery, ebeanServer);
+            return deleted;
         }
     }
 
     /**
-     * {@link AbstractEbeanQueryExecution} performing an exists check on the query.
+     * {@link AbstractEbeanQueryExecution} performing an exists check on the query, probing for a single row rather than
+     * counting all matching rows.
      *
      * @author Xuegui Yuan
      */
@@ -205,6 +282,57 @@ public abstract class AbstractEbeanQueryExecution {
         }
     }
 
+    /**
+     * {@link AbstractEbeanQueryExecution} running another execution asynchronously, returning a
+     * {@link CompletableFuture} of its result.
+     * <p>
+     * Without an active transaction the query runs on the given executor, in its own Ebean transaction just like a
+     * synchronous query outside of a transaction. Within an active Spring or Ebean transaction the query runs
+     * synchronously in that transaction instead, as the transaction is bound to the calling thread and an asynchronous
+     * query would not see its uncommitted changes.
+     *
+     * @author Xuegui Yuan
+     */
+    static class AsyncExecution extends AbstractEbeanQueryExecution {
+
+        private final AbstractEbeanQueryExecution delegate;
+        private final Executor executor;
+
+        /**
+         * Creates a new {@link AsyncExecution}.
+         *
+         * @param delegate must not be {@literal null}.
+         * @param executor must not be {@literal null}.
+         */
+        public AsyncExecution(AbstractEbeanQueryExecution delegate, Executor executor) {
+            Assert.notNull(delegate, "Delegate execution must not be null!");
+            Assert.notNull(executor, "Executor must not be null!");
+            this.delegate = delegate;
+            this.executor = executor;
+        }
+
+        @Override
+        protected Object doExecute(AbstractEbeanQuery query, Object[] values) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    || query.getEbeanServer().currentTransaction() != null) {
+                try {
+                    return CompletableFuture.completedFuture(delegate.execute(query, values));
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+            return CompletableFuture.supplyAsync(() -> delegate.execute(query, values), executor);
+        }
+
+        /**
+         * The delegate already converted the result.
+         */
+        @Override
+        protected Object postProcess(AbstractEbeanQuery query, Object[] values, Object result) {
+            return result;
+        }
+    }
+
     /**
      * {@link AbstractEbeanQueryExecution} executing a Java 8 Stream.
      *
@@ -225,7 +353,8 @@ public abstract class AbstractEbeanQueryExecution {
             }
 
             EbeanQueryWrapper createQuery = ebeanQuery.createQuery(values);
-            return createQuery.findStream();
+            EbeanQueryMethod method = ebeanQuery.getQueryMethod();
+            return createQuery.findStream(method.getStreamFetchSize(), method.getStreamBatchSize());
         }
     }
 }
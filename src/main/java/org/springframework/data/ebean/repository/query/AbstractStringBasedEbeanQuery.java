@@ -17,6 +17,7 @@
 package org.springframework.data.ebean.repository.query;
 
 import io.ebean.Database;
+import org.springframework.data.ebean.util.QueryTemplateSupport;
 import org.springframework.data.repository.query.*;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
@@ -32,6 +33,8 @@ abstract class AbstractStringBasedEbeanQuery extends AbstractEbeanQuery {
     private final StringQuery query;
     private final QueryMethodEvaluationContextProvider evaluationContextProvider;
     private final SpelExpressionParser parser;
+    private final BindingPlan bindingPlan;
+    private QueryTemplateSupport queryTemplates;
 
     /**
      * Creates a new {@link AbstractStringBasedEbeanQuery} from the given {@link EbeanQueryMethod}, {@link io.ebean.Database} and
@@ -55,6 +58,19 @@ abstract class AbstractStringBasedEbeanQuery extends AbstractEbeanQuery {
         this.evaluationContextProvider = evaluationContextProvider;
         this.query = new ExpressionBasedStringQuery(queryString, method.getEntityInformation(), parser);
         this.parser = parser;
+        this.bindingPlan = BindingPlan.of(method.getParameters(), query);
+    }
+
+    /**
+     * Configures the OQL templates shared by the queries of the repository, set once by the
+     * {@link EbeanQueryLookupStrategy} before the query is executed.
+     *
+     * @param queryTemplates must not be {@literal null}.
+     */
+    void setQueryTemplates(QueryTemplateSupport queryTemplates) {
+        Assert.notNull(queryTemplates, "QueryTemplateSupport must not be null!");
+        Assert.state(this.queryTemplates == null, "QueryTemplateSupport is already configured!");
+        this.queryTemplates = queryTemplates;
     }
 
     /**
@@ -64,14 +80,25 @@ abstract class AbstractStringBasedEbeanQuery extends AbstractEbeanQuery {
         return query;
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.ebean.repository.query.AbstractEbeanQuery#getCountPredicate()
+     */
+    @Override
+    protected String getCountPredicate() {
+        if (query.hasExpressionBindings()) {
+            // SpEL expressions may depend on state other than the method parameters
+            return null;
+        }
+        return query.getQueryString();
+    }
+
     /*
      * (non-Javadoc)
      * @see org.springframework.data.ebean.repository.query.AbstractEbeanQuery#doCreateQuery(java.lang.Object[])
      */
     @Override
     public EbeanQueryWrapper doCreateQuery(Object[] values) {
-        ParameterAccessor accessor = new ParametersParameterAccessor(getQueryMethod().getParameters(), values);
-
         EbeanQueryWrapper query = createEbeanQuery(this.query.getQueryString());
 
         return createBinder(values).bindAndPrepare(query);
@@ -83,23 +110,26 @@ abstract class AbstractStringBasedEbeanQuery extends AbstractEbeanQuery {
      */
     @Override
     protected ParameterBinder createBinder(Object[] values) {
-        return new SpelExpressionStringQueryParameterBinder((DefaultParameters) getQueryMethod().getParameters(), values, query,
-                evaluationContextProvider, parser);
+        StringQueryParameterBinder binder = new SpelExpressionStringQueryParameterBinder(
+                (DefaultParameters) getQueryMethod().getParameters(), bindingPlan, values, query, evaluationContextProvider,
+                parser);
+        binder.setInListPadding(getQueryMethod().getInListPadding());
+        return binder;
     }
 
     /**
      * Creates an appropriate Ebean query from an {@link Database} according to the current {@link AbstractEbeanQuery}
-     * type.
+     * type. OQL queries are copied from a template parsed once per repository, see {@link QueryTemplateSupport}.
      *
      * @param queryString
      * @return
      */
     protected EbeanQueryWrapper createEbeanQuery(String queryString) {
-        Database ebeanServer = getEbeanServer();
-
         ResultProcessor resultFactory = getQueryMethod().getResultProcessor();
         ReturnedType returnedType = resultFactory.getReturnedType();
 
-        return EbeanQueryWrapper.ofEbeanQuery(ebeanServer.createQuery(returnedType.getReturnedType(), queryString));
+        Assert.state(queryTemplates != null, "QueryTemplateSupport is not configured!");
+        return EbeanQueryWrapper.ofEbeanQuery(
+                queryTemplates.createQuery(returnedType.getReturnedType(), queryString));
     }
 }
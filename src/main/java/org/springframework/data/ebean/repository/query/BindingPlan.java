@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.util.QueryExecutionConverters;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.ebean.repository.query.StringQuery.ParameterBinding;
+
+/**
+ * The parameter bindings of a query method resolved once from its {@link Parameters}: which method argument is bound to
+ * which query parameter name or position and, for string queries, the {@link ParameterBinding} preparing the value.
+ * Binding an invocation is then a loop over the entries reading the argument array, see {@link ParameterBinder}.
+ *
+ * @author Xuegui Yuan
+ */
+final class BindingPlan {
+
+    private final int numberOfParameters;
+    private final Entry[] entries;
+    private final int pageableIndex;
+    private final int sortIndex;
+
+    private BindingPlan(int numberOfParameters, Entry[] entries, int pageableIndex, int sortIndex) {
+        this.numberOfParameters = numberOfParameters;
+        this.entries = entries;
+        this.pageableIndex = pageableIndex;
+        this.sortIndex = sortIndex;
+    }
+
+    /**
+     * Creates the {@link BindingPlan} binding all bindable parameters.
+     *
+     * @param parameters must not be {@literal null}.
+     * @return
+     */
+    static BindingPlan of(Parameters<?, ?> parameters) {
+        return of(parameters, null);
+    }
+
+    /**
+     * Creates the {@link BindingPlan} binding the bindable parameters to the given {@link StringQuery}. No parameter is
+     * bound directly if all parameters of the query are SpEL expressions, they are bound after evaluation.
+     *
+     * @param parameters must not be {@literal null}.
+     * @param query      may be {@literal null}.
+     * @return
+     */
+    static BindingPlan of(Parameters<?, ?> parameters, StringQuery query) {
+        Assert.notNull(parameters, "Parameters must not be null!");
+
+        List<Entry> entries = new ArrayList<>();
+        if (query == null || !query.hasOnlyExpressionBindings()) {
+            int position = 1;
+            for (Parameter parameter : parameters) {
+                if (!parameter.isBindable()) {
+                    continue;
+                }
+                String name = parameter.isNamedParameter() ? parameter.getName().orElse(null) : null;
+                entries.add(new Entry(parameter.getIndex(), name, position,
+                        QueryExecutionConverters.supports(parameter.getType()),
+                        query == null ? null : bindingFor(query, name, position)));
+                position++;
+            }
+        }
+        return new BindingPlan(parameters.getNumberOfParameters(), entries.toArray(new Entry[0]),
+                parameters.getPageableIndex(), parameters.getSortIndex());
+    }
+
+    /**
+     * Resolves the {@link ParameterBinding} of the query. A missing named binding is left {@literal null} and reported
+     * when binding, an unknown position falls back to a plain positional binding.
+     */
+    private static ParameterBinding bindingFor(StringQuery query, String name, int position) {
+        try {
+            return name != null ? query.getBindingFor(name) : query.getBindingFor(position);
+        } catch (IllegalArgumentException ex) {
+            return name != null ? null : new ParameterBinding(position);
+        }
+    }
+
+    int getNumberOfParameters() {
+        return numberOfParameters;
+    }
+
+    Entry[] getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the {@link Pageable} argument, {@link Pageable#unpaged()} if there is none.
+     *
+     * @param values must not be {@literal null}.
+     * @return
+     */
+    Pageable getPageable(Object[] values) {
+        Pageable pageable = pageableIndex < 0 ? null : (Pageable) values[pageableIndex];
+        return pageable == null ? Pageable.unpaged() : pageable;
+    }
+
+    /**
+     * Returns the {@link Sort} argument or the {@link Sort} of the {@link Pageable} argument, {@link Sort#unsorted()}
+     * if there is none.
+     *
+     * @param values must not be {@literal null}.
+     * @return
+     */
+    Sort getSort(Object[] values) {
+        Sort sort = sortIndex < 0 ? null : (Sort) values[sortIndex];
+        return sort != null ? sort : getPageable(values).getSort();
+    }
+
+    /**
+     * A method argument bound to a query parameter.
+     */
+    static final class Entry {
+
+        private final int index;
+        private final String name;
+        private final int position;
+        private final boolean unwrap;
+        private final ParameterBinding binding;
+
+        Entry(int index, String name, int position, boolean unwrap, ParameterBinding binding) {
+            this.index = index;
+            this.name = name;
+            this.position = position;
+            this.unwrap = unwrap;
+            this.binding = binding;
+        }
+
+        /**
+         * Returns the argument of the entry, unwrapping {@link java.util.Optional} and the like.
+         *
+         * @param values must not be {@literal null}.
+         * @return
+         */
+        Object getValue(Object[] values) {
+            Object value = values[index];
+            return unwrap ? QueryExecutionConverters.unwrap(value) : value;
+        }
+
+        /**
+         * @return the query parameter name, {@literal null} for positional parameters.
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * @return the position of the parameter among the bound parameters, starting at 1.
+         */
+        int getPosition() {
+            return position;
+        }
+
+        /**
+         * @return the binding of the string query, {@literal null} if there is none.
+         */
+        ParameterBinding getBinding() {
+            return binding;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.lang.reflect.Constructor;
+import java.util.Map;
+
+/**
+ * {@link Converter} creating DTO class or record instances from entities, passing the entity properties named like the
+ * constructor parameters, or copying the properties of the DTO for DTOs with a default constructor.
+ *
+ * @author Xuegui Yuan
+ */
+public class DtoInstantiatingConverter implements Converter<Object, Object> {
+
+    private static final Map<Class<?>, DtoInstantiatingConverter> CONVERTERS = new ConcurrentReferenceHashMap<>();
+
+    private final Class<?> targetType;
+    private final Constructor<?> constructor;
+    private final String[] parameterNames;
+
+    private DtoInstantiatingConverter(Class<?> targetType) {
+        this.targetType = targetType;
+        this.constructor = BeanUtils.getResolvableConstructor(targetType);
+        this.parameterNames = BeanUtils.getParameterNames(constructor);
+    }
+
+    /**
+     * Returns the converter to the given DTO type.
+     *
+     * @param targetType must not be {@literal null}.
+     * @return
+     */
+    public static DtoInstantiatingConverter of(Class<?> targetType) {
+        return CONVERTERS.computeIfAbsent(targetType, DtoInstantiatingConverter::new);
+    }
+
+    @Override
+    public Object convert(Object source) {
+        if (targetType.isInstance(source)) {
+            return source;
+        }
+        if (parameterNames.length == 0) {
+            Object target = BeanUtils.instantiateClass(constructor);
+            BeanUtils.copyProperties(source, target);
+            return target;
+        }
+        DirectFieldAccessFallbackBeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(source);
+        Object[] args = new Object[parameterNames.length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = wrapper.getPropertyValue(parameterNames[i]);
+        }
+        return BeanUtils.instantiateClass(constructor, args);
+    }
+}
@@ -18,10 +18,9 @@ package org.springframework.data.ebean.repository.query;
 
 import io.ebean.Expr;
 import io.ebean.Expression;
-import io.ebean.ExpressionList;
-import io.ebean.Query;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.ebean.repository.query.ParameterMetadataProvider.ParameterMetadata;
+import org.springframework.data.ebean.util.InListSupport;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
@@ -33,33 +32,46 @@ import java.util.Iterator;
 import java.util.List;
 
 /**
- * EbeanQueryWrapper creator to create a {@link io.ebean.Expression} from a {@link PartTree}.
+ * EbeanQueryWrapper creator to compile a {@link PartTree} into an {@link ExpressionTemplate}. The tree is walked only
+ * once, the resulting template creates the Ebean {@link io.ebean.Expression} for the actual parameter values of each
+ * invocation.
  *
  * @author Xuegui Yuan
  */
-public class EbeanQueryCreator extends AbstractQueryCreator<Query, Expression> {
+public class EbeanQueryCreator extends AbstractQueryCreator<EbeanQueryCreator.ExpressionTemplate, EbeanQueryCreator.ExpressionTemplate> {
 
-    private final ExpressionList root;
     private final ParameterMetadataProvider provider;
     private final ReturnedType returnedType;
     private final PartTree tree;
+    private final int inListPadding;
 
     /**
      * Create a new {@link EbeanQueryCreator}.
      *
-     * @param tree           must not be {@literal null}.
-     * @param type           must not be {@literal null}.
-     * @param expressionList must not be {@literal null}.
-     * @param provider       must not be {@literal null}.
+     * @param tree     must not be {@literal null}.
+     * @param type     must not be {@literal null}.
+     * @param provider must not be {@literal null}.
      */
-    public EbeanQueryCreator(PartTree tree, ReturnedType type, ExpressionList expressionList,
-                             ParameterMetadataProvider provider) {
+    public EbeanQueryCreator(PartTree tree, ReturnedType type, ParameterMetadataProvider provider) {
+        this(tree, type, provider, 0);
+    }
+
+    /**
+     * Create a new {@link EbeanQueryCreator} padding {@code IN} list arguments.
+     *
+     * @param tree          must not be {@literal null}.
+     * @param type          must not be {@literal null}.
+     * @param provider      must not be {@literal null}.
+     * @param inListPadding largest bucket {@code IN} lists are padded to, {@literal 0} to not pad.
+     * @see org.springframework.data.ebean.annotation.EbeanInListPadding
+     */
+    public EbeanQueryCreator(PartTree tree, ReturnedType type, ParameterMetadataProvider provider, int inListPadding) {
         super(tree);
         this.tree = tree;
 
-        this.root = expressionList;
         this.provider = provider;
         this.returnedType = type;
+        this.inListPadding = inListPadding;
     }
 
     /**
@@ -76,8 +88,8 @@ public class EbeanQueryCreator extends AbstractQueryCreator<Query, Expression> {
      * @see org.springframework.data.repository.query.parser.AbstractQueryCreator#create(org.springframework.data.repository.query.parser.Part, java.util.Iterator)
      */
     @Override
-    protected Expression create(Part part, Iterator<Object> iterator) {
-        return toExpression(part, root);
+    protected ExpressionTemplate create(Part part, Iterator<Object> iterator) {
+        return toExpression(part);
     }
 
     /*
@@ -85,8 +97,9 @@ public class EbeanQueryCreator extends AbstractQueryCreator<Query, Expression> {
      * @see org.springframework.data.repository.query.parser.AbstractQueryCreator#and(org.springframework.data.repository.query.parser.Part, java.lang.Object, java.util.Iterator)
      */
     @Override
-    protected Expression and(Part part, Expression base, Iterator<Object> iterator) {
-        return Expr.and(base, toExpression(part, root));
+    protected ExpressionTemplate and(Part part, ExpressionTemplate base, Iterator<Object> iterator) {
+        ExpressionTemplate next = toExpression(part);
+        return values -> Expr.and(base.bind(values), next.bind(values));
     }
 
     /*
@@ -94,31 +107,48 @@ public class EbeanQueryCreator extends AbstractQueryCreator<Query, Expression> {
      * @see org.springframework.data.repository.query.parser.AbstractQueryCreator#or(java.lang.Object, java.lang.Object)
      */
     @Override
-    protected Expression or(Expression base, Expression expression) {
-        return Expr.or(base, expression);
+    protected ExpressionTemplate or(ExpressionTemplate base, ExpressionTemplate expression) {
+        return values -> Expr.or(base.bind(values), expression.bind(values));
     }
 
     /**
-     * Finalizes the given {@link ExpressionList} and applies the given sort.
+     * Finalizes the compiled {@link ExpressionTemplate}, returns {@literal null} if the tree has no criteria.
      */
     @Override
-    protected final Query complete(Expression expression, Sort sort) {
-        return root.add(expression).query();
+    protected final ExpressionTemplate complete(ExpressionTemplate expression, Sort sort) {
+        return expression;
     }
 
     /**
-     * Creates a {@link ExpressionList} from the given {@link Part}.
+     * Creates a {@link ExpressionTemplate} from the given {@link Part}.
      *
      * @param part
-     * @param root
      * @return
      */
-    private Expression toExpression(Part part, ExpressionList<?> root) {
-        return new ExpressionBuilder(part, root).build();
+    private ExpressionTemplate toExpression(Part part) {
+        return new ExpressionBuilder(part).build();
+    }
+
+    /**
+     * Template of an Ebean {@link Expression} compiled from a {@link PartTree}, binds the method invocation arguments
+     * to create the actual {@link Expression}.
+     *
+     * @author Xuegui Yuan
+     */
+    @FunctionalInterface
+    public interface ExpressionTemplate {
+
+        /**
+         * Creates the {@link Expression} for the given method invocation arguments.
+         *
+         * @param values must not be {@literal null}.
+         * @return
+         */
+        Expression bind(Object[] values);
     }
 
     /**
-     * Simple builder to contain logic to create Ebean {@link Expression}s from {@link Part}s.
+     * Simple builder to contain logic to create {@link ExpressionTemplate}s from {@link Part}s.
      *
      * @author Xuegui Yuan
      */
@@ -126,79 +156,89 @@ public class EbeanQueryCreator extends AbstractQueryCreator<Query, Expression> {
     private class ExpressionBuilder {
 
         private final Part part;
-        private final ExpressionList root;
 
         /**
-         * Creates a new {@link ExpressionBuilder} for the given {@link Part} and {@link ExpressionList}.
+         * Creates a new {@link ExpressionBuilder} for the given {@link Part}.
          *
          * @param part must not be {@literal null}.
-         * @param root must not be {@literal null}.
          */
-        public ExpressionBuilder(Part part, ExpressionList<?> root) {
+        public ExpressionBuilder(Part part) {
             Assert.notNull(part, "Part must not be null!");
-            Assert.notNull(root, "ExpressionList must not be null!");
             this.part = part;
-            this.root = root;
         }
 
         /**
-         * Builds a Ebean {@link Expression} from the underlying {@link Part}.
+         * Builds a {@link ExpressionTemplate} from the underlying {@link Part}.
          *
          * @return
          */
-        public Expression build() {
-            PropertyPath property = part.getProperty();
+        public ExpressionTemplate build() {
+            String path = part.getProperty().toDotPath();
             Part.Type type = part.getType();
 
             switch (type) {
                 case BETWEEN:
-                    ParameterMetadataProvider.ParameterMetadata<Comparable> first = provider.next(part);
-                    ParameterMetadataProvider.ParameterMetadata<Comparable> second = provider.next(part);
-                    return Expr.between(property.toDotPath(), first.getParameterValue(), second.getParameterValue());
+                    ParameterMetadata<?> first = provider.next(part);
+                    ParameterMetadata<?> second = provider.next(part);
+                    return values -> Expr.between(path, first.getValue(values), second.getValue(values));
                 case AFTER:
                 case GREATER_THAN:
-                    return Expr.gt(property.toDotPath(), provider.next(part).getParameterValue());
+                    ParameterMetadata<?> gt = provider.next(part);
+                    return values -> Expr.gt(path, gt.getValue(values));
                 case GREATER_THAN_EQUAL:
-                    return Expr.ge(property.toDotPath(), provider.next(part).getParameterValue());
+                    ParameterMetadata<?> ge = provider.next(part);
+                    return values -> Expr.ge(path, ge.getValue(values));
                 case BEFORE:
                 case LESS_THAN:
-                    return Expr.lt(property.toDotPath(), provider.next(part).getParameterValue());
+                    ParameterMetadata<?> lt = provider.next(part);
+                    return values -> Expr.lt(path, lt.getValue(values));
                 case LESS_THAN_EQUAL:
-                    return Expr.le(property.toDotPath(), provider.next(part).getParameterValue());
+                    ParameterMetadata<?> le = provider.next(part);
+                    return values -> Expr.le(path, le.getValue(values));
                 case IS_NULL:
-                    return Expr.isNull(property.toDotPath());
+                    return values -> Expr.isNull(path);
                 case IS_NOT_NULL:
-                    return Expr.isNotNull(property.toDotPath());
+                    return values -> Expr.isNotNull(path);
                 case NOT_IN:
-                    ParameterMetadataProvider.ParameterMetadata<? extends Collection> pmNotIn = provider.next(part, Collection.class);
-                    return Expr.not(Expr.in(property.toDotPath(), ParameterMetadataProvider.ParameterMetadata.toCollection(pmNotIn.getParameterValue())));
+                    ParameterMetadata<?> notIn = provider.next(part, Collection.class);
+                    return values -> Expr.not(Expr.in(path, inValues(notIn.getValue(values))));
                 case IN:
-                    ParameterMetadataProvider.ParameterMetadata<? extends Collection> pmIn = provider.next(part, Collection.class);
-                    return Expr.in(property.toDotPath(), ParameterMetadataProvider.ParameterMetadata.toCollection(pmIn.getParameterValue()));
+                    ParameterMetadata<?> in = provider.next(part, Collection.class);
+                    return values -> Expr.in(path, inValues(in.getValue(values)));
                 case STARTING_WITH:
-                    return Expr.startsWith(property.toDotPath(), (String) provider.next(part).getParameterValue());
+                    ParameterMetadata<?> startingWith = provider.next(part);
+                    return values -> Expr.startsWith(path, (String) startingWith.getValue(values));
                 case ENDING_WITH:
-                    return Expr.endsWith(property.toDotPath(), (String) provider.next(part).getParameterValue());
+                    ParameterMetadata<?> endingWith = provider.next(part);
+                    return values -> Expr.endsWith(path, (String) endingWith.getValue(values));
                 case CONTAINING:
-                    return Expr.contains(property.toDotPath(), (String) provider.next(part).getParameterValue());
+                    ParameterMetadata<?> containing = provider.next(part);
+                    return values -> Expr.contains(path, (String) containing.getValue(values));
                 case NOT_CONTAINING:
-                    return Expr.not(Expr.contains(property.toDotPath(), (String) provider.next(part).getParameterValue()));
+                    ParameterMetadata<?> notContaining = provider.next(part);
+                    return values -> Expr.not(Expr.contains(path, (String) notContaining.getValue(values)));
                 case LIKE:
-                    return Expr.like(property.toDotPath(), (String) provider.next(part).getParameterValue());
+                    ParameterMetadata<?> like = provider.next(part);
+                    return values -> Expr.like(path, (String) like.getValue(values));
                 case NOT_LIKE:
-                    return Expr.not(Expr.like(property.toDotPath(), (String) provider.next(part).getParameterValue()));
+                    ParameterMetadata<?> notLike = provider.next(part);
+                    return values -> Expr.not(Expr.like(path, (String) notLike.getValue(values)));
                 case TRUE:
-                    return Expr.eq(property.toDotPath(), true);
+                    return values -> Expr.eq(path, true);
                 case FALSE:
-                    return Expr.eq(property.toDotPath(), false);
+                    return values -> Expr.eq(path, false);
                 case SIMPLE_PROPERTY:
-                    ParameterMetadataProvider.ParameterMetadata<Object> pmEquals = provider.next(part);
-                    return pmEquals.isIsNullParameter() ? Expr.isNull(property.toDotPath())
-                            : Expr.eq(property.toDotPath(), pmEquals.getParameterValue());
+                    ParameterMetadata<?> equals = provider.next(part);
+                    return values -> {
+                        Object value = equals.getValue(values);
+                        return value == null ? Expr.isNull(path) : Expr.eq(path, value);
+                    };
                 case NEGATING_SIMPLE_PROPERTY:
-                    ParameterMetadataProvider.ParameterMetadata<Object> pmNot = provider.next(part);
-                    return pmNot.isIsNullParameter() ? Expr.isNull(property.toDotPath())
-                            : Expr.ne(property.toDotPath(), pmNot.getParameterValue());
+                    ParameterMetadata<?> not = provider.next(part);
+                    return values -> {
+                        Object value = not.getValue(values);
+                        return value == null ? Expr.isNotNull(path) : Expr.ne(path, value);
+                    };
 //        case IS_EMPTY:
 //          return Expr.isEmpty(property.toDotPath());
 //        case IS_NOT_EMPTY:
@@ -207,5 +247,16 @@ public class EbeanQueryCreator extends AbstractQueryCreator<Query, Expression> {
                     throw new IllegalArgumentException("Unsupported keyword " + type);
             }
         }
+
+        /**
+         * Converts the argument of an {@code IN} part to a collection, padded if configured.
+         *
+         * @param value
+         * @return
+         */
+        private Collection<?> inValues(Object value) {
+            Collection<?> collection = ParameterMetadataProvider.ParameterMetadata.toCollection(value);
+            return inListPadding > 0 ? InListSupport.pad(collection, inListPadding) : collection;
+        }
     }
 }
@@ -18,6 +18,8 @@ package org.springframework.data.ebean.repository.query;
 
 import io.ebean.Database;
 import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.cache.CountCache;
+import org.springframework.data.ebean.util.QueryTemplateSupport;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -28,6 +30,7 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.util.Assert;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
 
 /**
  * EbeanQueryWrapper lookup strategy to execute finders.
@@ -52,6 +55,20 @@ public final class EbeanQueryLookupStrategy {
      */
     public static QueryLookupStrategy create(Database ebeanServer, Key key,
                                              QueryMethodEvaluationContextProvider evaluationContextProvider) {
+        return create(ebeanServer, key, evaluationContextProvider, null, null);
+    }
+
+    /**
+     * Creates the {@link QueryLookupStrategy} for the given {@link Key}, its queries are neither configured nor have
+     * their execution resolved.
+     *
+     * @param ebeanServer
+     * @param key
+     * @param evaluationContextProvider
+     * @return
+     */
+    private static QueryLookupStrategy createStrategy(Database ebeanServer, Key key,
+                                                      QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
         Assert.notNull(ebeanServer, "EbeanServer must not be null!");
         Assert.notNull(evaluationContextProvider, "EvaluationContextProvider must not be null!");
@@ -69,6 +86,97 @@ public final class EbeanQueryLookupStrategy {
         }
     }
 
+    /**
+     * Creates a {@link QueryLookupStrategy} for the given {@link Database} and {@link Key} whose queries use the given
+     * {@link CountCache}.
+     *
+     * @param ebeanServer               must not be {@literal null}.
+     * @param key                       may be {@literal null}.
+     * @param evaluationContextProvider must not be {@literal null}.
+     * @param countCache                may be {@literal null}.
+     * @return
+     */
+    public static QueryLookupStrategy create(Database ebeanServer, Key key,
+                                             QueryMethodEvaluationContextProvider evaluationContextProvider,
+                                             CountCache countCache) {
+        return create(ebeanServer, key, evaluationContextProvider, countCache, null);
+    }
+
+    /**
+     * Creates a {@link QueryLookupStrategy} for the given {@link Database} and {@link Key} whose queries use the given
+     * {@link CountCache} and run asynchronous query methods on the given executor.
+     *
+     * @param ebeanServer               must not be {@literal null}.
+     * @param key                       may be {@literal null}.
+     * @param evaluationContextProvider must not be {@literal null}.
+     * @param countCache                may be {@literal null}.
+     * @param asyncExecutor             may be {@literal null} to use the default executor.
+     * @return
+     */
+    public static QueryLookupStrategy create(Database ebeanServer, Key key,
+                                             QueryMethodEvaluationContextProvider evaluationContextProvider,
+                                             CountCache countCache, Executor asyncExecutor) {
+        return create(ebeanServer, key, evaluationContextProvider, countCache, asyncExecutor, null);
+    }
+
+    /**
+     * Creates a {@link QueryLookupStrategy} for the given {@link Database} and {@link Key} whose queries use the given
+     * {@link CountCache}, run asynchronous query methods on the given executor and share the given OQL templates.
+     *
+     * @param ebeanServer               must not be {@literal null}.
+     * @param key                       may be {@literal null}.
+     * @param evaluationContextProvider must not be {@literal null}.
+     * @param countCache                may be {@literal null}.
+     * @param asyncExecutor             may be {@literal null} to use the default executor.
+     * @param queryTemplates            may be {@literal null} for templates shared by the queries of this strategy only.
+     * @return
+     */
+    public static QueryLookupStrategy create(Database ebeanServer, Key key,
+                                             QueryMethodEvaluationContextProvider evaluationContextProvider,
+                                             CountCache countCache, Executor asyncExecutor,
+                                             QueryTemplateSupport queryTemplates) {
+        return new ConfiguringQueryLookupStrategy(createStrategy(ebeanServer, key, evaluationContextProvider), countCache,
+                asyncExecutor, queryTemplates != null ? queryTemplates : new QueryTemplateSupport(ebeanServer));
+    }
+
+    /**
+     * {@link QueryLookupStrategy} handing the {@link CountCache}, async executor and OQL templates to the queries resolved
+     * by another strategy, then resolving their execution. This is the only place the execution is resolved at
+     * bootstrap.
+     *
+     * @author Xuegui Yuan
+     */
+    private static class ConfiguringQueryLookupStrategy implements QueryLookupStrategy {
+
+        private final QueryLookupStrategy delegate;
+        private final CountCache countCache;
+        private final Executor asyncExecutor;
+        private final QueryTemplateSupport queryTemplates;
+
+        public ConfiguringQueryLookupStrategy(QueryLookupStrategy delegate, CountCache countCache,
+                                              Executor asyncExecutor, QueryTemplateSupport queryTemplates) {
+            this.delegate = delegate;
+            this.countCache = countCache;
+            this.asyncExecutor = asyncExecutor;
+            this.queryTemplates = queryTemplates;
+        }
+
+        @Override
+        public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+                                            NamedQueries namedQueries) {
+            RepositoryQuery query = delegate.resolveQuery(method, metadata, factory, namedQueries);
+            if (query instanceof AbstractEbeanQuery) {
+                ((AbstractEbeanQuery) query).setCountCache(countCache);
+                ((AbstractEbeanQuery) query).setAsyncExecutor(asyncExecutor);
+                if (query instanceof AbstractStringBasedEbeanQuery) {
+                    ((AbstractStringBasedEbeanQuery) query).setQueryTemplates(queryTemplates);
+                }
+                ((AbstractEbeanQuery) query).resolveExecution();
+            }
+            return query;
+        }
+    }
+
     /**
      * {@link QueryLookupStrategy} to create a query from the method name.
      *
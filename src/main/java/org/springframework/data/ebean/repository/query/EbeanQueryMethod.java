@@ -18,6 +18,9 @@ package org.springframework.data.ebean.repository.query;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.ebean.annotation.EbeanInListPadding;
+import org.springframework.data.ebean.annotation.EbeanPaging;
+import org.springframework.data.ebean.annotation.EbeanStreaming;
 import org.springframework.data.ebean.annotation.Modifying;
 import org.springframework.data.ebean.annotation.Query;
 import org.springframework.data.projection.ProjectionFactory;
@@ -28,6 +31,7 @@ import org.springframework.util.StringUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Ebean specific extension of {@link QueryMethod}.
@@ -37,6 +41,12 @@ import java.lang.reflect.Method;
 public class EbeanQueryMethod extends QueryMethod {
 
     private final Method method;
+    private final boolean parallelCount;
+    private final boolean cacheCount;
+    private final int inListPadding;
+    private final int streamFetchSize;
+    private final int streamBatchSize;
+    private final BindingPlan bindingPlan;
 
     /**
      * Creates a {@link EbeanQueryMethod}.
@@ -50,6 +60,48 @@ public class EbeanQueryMethod extends QueryMethod {
         Assert.notNull(method, "Method must not be null!");
 
         this.method = method;
+
+        EbeanPaging paging = AnnotatedElementUtils.findMergedAnnotation(method, EbeanPaging.class);
+        if (paging == null) {
+            paging = AnnotatedElementUtils.findMergedAnnotation(metadata.getRepositoryInterface(), EbeanPaging.class);
+        }
+        this.parallelCount = paging != null && paging.parallelCount();
+        this.cacheCount = paging != null && paging.cacheCount();
+
+        EbeanInListPadding padding = AnnotatedElementUtils.findMergedAnnotation(method, EbeanInListPadding.class);
+        if (padding == null) {
+            padding = AnnotatedElementUtils.findMergedAnnotation(metadata.getRepositoryInterface(),
+                    EbeanInListPadding.class);
+        }
+        this.inListPadding = padding != null ? padding.maxSize() : 0;
+        Assert.isTrue(inListPadding >= 0, "EbeanInListPadding maxSize must not be negative!");
+
+        EbeanStreaming streaming = AnnotatedElementUtils.findMergedAnnotation(method, EbeanStreaming.class);
+        if (streaming == null) {
+            streaming = AnnotatedElementUtils.findMergedAnnotation(metadata.getRepositoryInterface(),
+                    EbeanStreaming.class);
+        }
+        this.streamFetchSize = streaming != null ? streaming.fetchSize() : EbeanStreaming.DEFAULT_FETCH_SIZE;
+        this.streamBatchSize = streaming != null ? streaming.batchSize() : EbeanStreaming.DEFAULT_BATCH_SIZE;
+
+        this.bindingPlan = BindingPlan.of(getParameters());
+
+        if (isModifyingQuery()) {
+            Class<?> returnType = method.getReturnType();
+            boolean isVoid = void.class.equals(returnType) || Void.class.equals(returnType);
+            boolean isInt = int.class.equals(returnType) || Integer.class.equals(returnType);
+            Assert.isTrue(isInt || isVoid, String.format(
+                    "Modifying queries can only use void or int/Integer as return type! Offending method: %s", method));
+        }
+    }
+
+    /**
+     * Returns the {@link BindingPlan} binding the method parameters to a derived or named query.
+     *
+     * @return
+     */
+    BindingPlan getBindingPlan() {
+        return bindingPlan;
     }
 
     /**
@@ -113,6 +165,85 @@ public class EbeanQueryMethod extends QueryMethod {
         return StringUtils.hasText(annotatedName) ? annotatedName : super.getNamedQueryName();
     }
 
+    /**
+     * Returns the JDBC fetch size hint of a streaming finder.
+     *
+     * @return
+     * @see EbeanStreaming#fetchSize()
+     */
+    int getStreamFetchSize() {
+        return streamFetchSize;
+    }
+
+    /**
+     * Returns the lazy load batch size of a streaming finder.
+     *
+     * @return
+     * @see EbeanStreaming#batchSize()
+     */
+    int getStreamBatchSize() {
+        return streamBatchSize;
+    }
+
+    /**
+     * Returns whether the method returns a {@link CompletableFuture} or one of its super types, to be executed
+     * asynchronously.
+     *
+     * @return
+     */
+    boolean isAsyncQuery() {
+        Class<?> returnType = method.getReturnType();
+        return !Object.class.equals(returnType) && returnType.isAssignableFrom(CompletableFuture.class);
+    }
+
+    /**
+     * Returns whether the method returns a Reactor {@code Flux} or {@code Mono}.
+     *
+     * @return
+     */
+    boolean isReactiveQuery() {
+        return isFluxQuery() || "reactor.core.publisher.Mono".equals(method.getReturnType().getName());
+    }
+
+    /**
+     * Returns whether the method returns a Reactor {@code Flux}.
+     *
+     * @return
+     */
+    boolean isFluxQuery() {
+        return "reactor.core.publisher.Flux".equals(method.getReturnType().getName());
+    }
+
+    /**
+     * Returns whether the count query of a paged finder runs concurrently with the content query.
+     *
+     * @return
+     * @see EbeanPaging#parallelCount()
+     */
+    boolean isParallelCount() {
+        return parallelCount;
+    }
+
+    /**
+     * Returns whether the total count of a paged finder is cached.
+     *
+     * @return
+     * @see EbeanPaging#cacheCount()
+     */
+    boolean isCacheCount() {
+        return cacheCount;
+    }
+
+    /**
+     * Returns the largest bucket {@code IN} list arguments are padded to, {@literal 0} if they are not padded.
+     *
+     * @return
+     * @see EbeanInListPadding#maxSize()
+     */
+    int getInListPadding() {
+        return inListPadding;
+    }
+
     /**
      * Returns whether the finder is a modifying one.
      *
@@ -16,15 +16,23 @@
 
 package org.springframework.data.ebean.repository.query;
 
-import io.ebean.PagedList;
+import io.ebean.Database;
+import io.ebean.PersistenceContextScope;
 import io.ebean.Query;
+import io.ebean.QueryIterator;
 import io.ebean.SqlUpdate;
 import io.ebean.Update;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.ebean.cache.CountCache;
+import org.springframework.data.ebean.cache.CountCacheKey;
+import org.springframework.data.ebean.util.PageSupport;
+import org.springframework.data.ebean.util.ScrollSupport;
 import org.springframework.data.util.StreamUtils;
 
 import java.util.List;
@@ -99,14 +107,9 @@ public class EbeanQueryWrapper<T> {
     }
 
     @SuppressWarnings("unchecked")
-    <E> Page<E> findPage(Pageable pageable) {
+    <E> Page<E> findPage(Pageable pageable, boolean parallelCount, CountCache countCache, CountCacheKey countKey) {
         if (queryType == QUERY) {
-            PagedList<E> pagedList = ((Query<E>) queryInstance)
-                    .setFirstRow((int) pageable.getOffset())
-                    .setMaxRows(pageable.getPageSize())
-                    .findPagedList();
-            return PageableExecutionUtils.getPage(pagedList.getList(), pageable, pagedList::getTotalCount);
-
+            return PageSupport.findPage((Query<E>) queryInstance, pageable, parallelCount, countCache, countKey);
         }
         throw new IllegalArgumentException("query not supported!");
     }
@@ -139,15 +142,38 @@ public class EbeanQueryWrapper<T> {
 
     boolean isExists() {
         if (queryType == QUERY) {
-            return ((Query) queryInstance).findCount() > 0;
+            return ((Query) queryInstance).exists();
+        }
+        throw new IllegalArgumentException("query not supported!");
+    }
+
+    /**
+     * Streams the query results from {@link Query#findIterate()}, the iterator is closed when the stream is closed.
+     * <p>
+     * Beans are loaded into a query scoped persistence context rather than the one of the transaction, so the
+     * transaction does not retain the streamed beans and memory stays flat for large results.
+     *
+     * @param fetchSize JDBC fetch size hint.
+     * @param batchSize lazy load batch size.
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    <E> Stream<E> findStream(int fetchSize, int batchSize) {
+        if (queryType == QUERY) {
+            QueryIterator<E> iterator = ((Query<E>) queryInstance)
+                    .setBufferFetchSizeHint(fetchSize)
+                    .setLazyLoadBatchSize(batchSize)
+                    .setPersistenceContextScope(PersistenceContextScope.QUERY)
+                    .findIterate();
+            return StreamUtils.createStreamFromIterator(iterator).onClose(iterator::close);
         }
         throw new IllegalArgumentException("query not supported!");
     }
 
     @SuppressWarnings("unchecked")
-    <E> Stream<E> findStream() {
+    <E> QueryIterator<E> findIterate() {
         if (queryType == QUERY) {
-            return StreamUtils.createStreamFromIterator(((Query<E>) queryInstance).findIterate());
+            return ((Query<E>) queryInstance).findIterate();
         }
         throw new IllegalArgumentException("query not supported!");
     }
@@ -173,6 +199,14 @@ public class EbeanQueryWrapper<T> {
         throw new IllegalArgumentException("query not supported!");
     }
 
+    @SuppressWarnings("unchecked")
+    <E> Window<E> findWindow(Database ebeanServer, Class<E> entityType, ScrollPosition position, Sort sort, int limit) {
+        if (queryType == QUERY) {
+            return ScrollSupport.scroll(ebeanServer, entityType, (Query<E>) queryInstance, position, sort, limit);
+        }
+        throw new IllegalArgumentException("query not supported!");
+    }
+
     Integer getMaxRows() {
         if (queryType == QUERY) {
             return ((Query) queryInstance).getMaxRows();
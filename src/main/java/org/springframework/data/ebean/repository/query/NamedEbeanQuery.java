@@ -37,10 +37,12 @@ final class NamedEbeanQuery extends AbstractEbeanQuery {
     private static final Logger LOG = LoggerFactory.getLogger(NamedEbeanQuery.class);
 
     private final String queryName;
-    private Query query;
+    private final Query query;
 
     /**
      * Creates a new {@link NamedEbeanQuery}.
+     *
+     * @param query the parsed named query, only used as template and never executed itself.
      */
     private NamedEbeanQuery(EbeanQueryMethod method, Database ebeanServer, Query query) {
         super(method, ebeanServer);
@@ -69,8 +71,11 @@ final class NamedEbeanQuery extends AbstractEbeanQuery {
         }
     }
 
+    /**
+     * Binds the parameters to a copy of the named query, so that concurrent invocations never share bind values.
+     */
     @Override
     protected EbeanQueryWrapper doCreateQuery(Object[] values) {
-        return createBinder(values).bindAndPrepare(EbeanQueryWrapper.ofEbeanQuery(query));
+        return createBinder(values).bindAndPrepare(EbeanQueryWrapper.ofEbeanQuery(query.copy()));
     }
 }
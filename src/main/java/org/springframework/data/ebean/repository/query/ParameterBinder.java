@@ -31,7 +31,7 @@ import org.springframework.util.Assert;
 public class ParameterBinder {
 
     private final DefaultParameters parameters;
-    private final ParameterAccessor accessor;
+    private final BindingPlan plan;
     private final Object[] values;
 
     ParameterBinder(DefaultParameters parameters) {
@@ -45,15 +45,28 @@ public class ParameterBinder {
      * @param values     must not be {@literal null}.
      */
     public ParameterBinder(DefaultParameters parameters, Object[] values) {
+        this(parameters, BindingPlan.of(parameters), values);
+    }
+
+    /**
+     * Creates a new {@link ParameterBinder} for the {@link BindingPlan} resolved at bootstrap. The values are never
+     * written to and used as given.
+     *
+     * @param parameters must not be {@literal null}.
+     * @param plan       must not be {@literal null}.
+     * @param values     must not be {@literal null}.
+     */
+    ParameterBinder(DefaultParameters parameters, BindingPlan plan, Object[] values) {
 
         Assert.notNull(parameters, "Parameters must not be null!");
+        Assert.notNull(plan, "BindingPlan must not be null!");
         Assert.notNull(values, "Values must not be null!");
 
-        Assert.isTrue(parameters.getNumberOfParameters() == values.length, "Invalid number of parameters given!");
+        Assert.isTrue(plan.getNumberOfParameters() == values.length, "Invalid number of parameters given!");
 
         this.parameters = parameters;
-        this.values = values.clone();
-        this.accessor = new ParametersParameterAccessor(parameters, this.values);
+        this.plan = plan;
+        this.values = values;
     }
 
     /**
@@ -63,7 +76,7 @@ public class ParameterBinder {
      * @return
      */
     public Sort getSort() {
-        return accessor.getSort();
+        return plan.getSort(values);
     }
 
     /**
@@ -100,17 +113,8 @@ public class ParameterBinder {
 
         Assert.notNull(query, "EbeanQueryWrapper must not be null!");
 
-        int bindableParameterIndex = 0;
-        int queryParameterPosition = 1;
-
-        for (Parameter parameter : parameters) {
-
-            if (canBindParameter(parameter)) {
-
-                Object value = accessor.getBindableValue(bindableParameterIndex);
-                bind(query, parameter, value, queryParameterPosition++);
-                bindableParameterIndex++;
-            }
+        for (BindingPlan.Entry entry : plan.getEntries()) {
+            bind(query, entry, entry.getValue(values));
         }
 
         return query;
@@ -122,7 +126,7 @@ public class ParameterBinder {
      * @return
      */
     public Pageable getPageable() {
-        return accessor.getPageable();
+        return plan.getPageable(values);
     }
 
     /**
@@ -130,7 +134,10 @@ public class ParameterBinder {
      *
      * @param parameter
      * @return
+     * @deprecated the bound parameters are resolved once by the {@link BindingPlan} of the query method, this method is
+     * no longer consulted when binding.
      */
+    @Deprecated
     protected boolean canBindParameter(Parameter parameter) {
         return parameter.isBindable();
     }
@@ -142,12 +149,27 @@ public class ParameterBinder {
      * @param parameter
      * @param value
      * @param position
+     * @deprecated binding goes through the {@link BindingPlan} of the query method, this method delegates to it and is
+     * no longer called when binding.
      */
+    @Deprecated
     protected void bind(EbeanQueryWrapper query, Parameter parameter, Object value, int position) {
-        if (parameter.isNamedParameter()) {
-            query.setParameter(parameter.getName().get(), value);
+        String name = parameter.isNamedParameter() ? parameter.getName().orElse(null) : null;
+        bind(query, new BindingPlan.Entry(parameter.getIndex(), name, position, false, null), value);
+    }
+
+    /**
+     * Perform the actual query parameter binding.
+     *
+     * @param query
+     * @param entry
+     * @param value
+     */
+    void bind(EbeanQueryWrapper query, BindingPlan.Entry entry, Object value) {
+        if (entry.getName() != null) {
+            query.setParameter(entry.getName(), value);
         } else {
-            query.setParameter(position, value);
+            query.setParameter(entry.getPosition(), value);
         }
     }
 
@@ -21,6 +21,7 @@ import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.data.repository.util.QueryExecutionConverters;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
@@ -47,6 +48,16 @@ class ParameterMetadataProvider {
         this(accessor.iterator(), accessor.getParameters());
     }
 
+    /**
+     * Creates a new {@link ParameterMetadataProvider} from the given {@link Parameters} without any values, so that the
+     * created {@link ParameterMetadata}s only carry placeholders and can be used to compile a query template.
+     *
+     * @param parameters must not be {@literal null}.
+     */
+    public ParameterMetadataProvider(Parameters<?, ?> parameters) {
+        this(null, parameters);
+    }
+
     /**
      * Creates a new {@link ParameterMetadataProvider} from the given {@link Iterable} of all
      * bindable parameter values.
@@ -96,8 +107,9 @@ class ParameterMetadataProvider {
     private <T> ParameterMetadata<T> next(Part part, Class<T> type, Parameter parameter) {
         Assert.notNull(type, "Type must not be null!");
 
-        ParameterMetadata<T> value = new ParameterMetadata<T>(type, parameter.getName().get(), part.getType(),
-                bindableParameterValues == null ? ParameterMetadata.PLACEHOLDER : bindableParameterValues.next());
+        ParameterMetadata<T> value = new ParameterMetadata<T>(type, parameter.getName().get(), parameter.getIndex(),
+                part.getType(), bindableParameterValues == null ? ParameterMetadata.PLACEHOLDER : bindableParameterValues.next(),
+                QueryExecutionConverters.supports(parameter.getType()));
         expressions.add(value);
 
         return value;
@@ -129,21 +141,42 @@ class ParameterMetadataProvider {
         private final Type type;
         private final Class<T> parameterType;
         private final String parameterName;
+        private final int parameterIndex;
         private final Object parameterValue;
+        private final boolean unwrap;
 
         /**
          * Creates a new {@link ParameterMetadata}.
          *
          * @param parameterType
          * @param parameterName
+         * @param parameterIndex index of the parameter in the method signature
+         * @param type
+         * @param value
+         */
+        public ParameterMetadata(Class<T> parameterType, String parameterName, int parameterIndex, Type type, Object value) {
+            this(parameterType, parameterName, parameterIndex, type, value, false);
+        }
+
+        /**
+         * Creates a new {@link ParameterMetadata} whose arguments are unwrapped if the parameter is declared as
+         * {@link java.util.Optional} or another wrapper type.
+         *
+         * @param parameterType
+         * @param parameterName
+         * @param parameterIndex index of the parameter in the method signature
          * @param type
          * @param value
+         * @param unwrap         whether to unwrap the arguments, see {@link QueryExecutionConverters#unwrap(Object)}
          */
-        public ParameterMetadata(Class<T> parameterType, String parameterName, Type type, Object value) {
+        ParameterMetadata(Class<T> parameterType, String parameterName, int parameterIndex, Type type, Object value,
+                          boolean unwrap) {
             this.parameterType = parameterType;
             this.parameterName = parameterName;
+            this.parameterIndex = parameterIndex;
             this.parameterValue = value;
             this.type = (value == null && Type.SIMPLE_PROPERTY.equals(type) ? Type.IS_NULL : type);
+            this.unwrap = unwrap;
         }
 
         /**
@@ -187,8 +220,30 @@ class ParameterMetadataProvider {
             return parameterName;
         }
 
+        /**
+         * Returns the index of the parameter in the method signature, i.e. the position of its value in the
+         * invocation arguments.
+         *
+         * @return
+         */
+        public int getParameterIndex() {
+            return parameterIndex;
+        }
+
         public Object getParameterValue() {
             return parameterValue;
         }
+
+        /**
+         * Returns the argument of the parameter among the given invocation arguments, unwrapping
+         * {@link java.util.Optional} and the like.
+         *
+         * @param values must not be {@literal null}.
+         * @return
+         */
+        Object getValue(Object[] values) {
+            Object value = values[parameterIndex];
+            return unwrap ? QueryExecutionConverters.unwrap(value) : value;
+        }
     }
 }
@@ -17,14 +17,19 @@
 package org.springframework.data.ebean.repository.query;
 
 import io.ebean.Database;
-import io.ebean.ExpressionList;
+import io.ebean.PersistenceContextScope;
 import io.ebean.Query;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
  * A {@link AbstractEbeanQuery} implementation based on a {@link PartTree}.
  *
@@ -64,6 +69,14 @@ public class PartTreeEbeanQuery extends AbstractEbeanQuery {
         return super.getExecution();
     }
 
+    /**
+     * Combines the static sort of the method name with the dynamic sort of the parameters.
+     */
+    @Override
+    protected Sort getSort(ParameterAccessor accessor) {
+        return tree.getSort().and(accessor.getSort());
+    }
+
     /*
      * (non-Javadoc)
      * @see org.springframework.data.ebean.repository.query.AbstractEbeanQuery#doCreateQuery(java.lang.Object[])
@@ -74,16 +87,21 @@ public class PartTreeEbeanQuery extends AbstractEbeanQuery {
     }
 
     /**
-     * EbeanQueryWrapper preparer to create {@link Query} instances and potentially cache them.
+     * EbeanQueryWrapper preparer to create {@link Query} instances from the {@link PartTree} compiled once at bootstrap.
      *
      * @author Xuegui Yuan
      */
     private class QueryPreparer {
 
         private final Database ebeanServer;
+        private final EbeanQueryCreator.ExpressionTemplate criteria;
+        private final String projection;
 
         public QueryPreparer(Database ebeanServer) {
             this.ebeanServer = ebeanServer;
+            this.criteria = createCreator().createQuery();
+            this.projection = parameters.hasDynamicProjection()
+                    ? null : getProjection(getQueryMethod().getResultProcessor().getReturnedType());
         }
 
         /**
@@ -93,24 +111,68 @@ public class PartTreeEbeanQuery extends AbstractEbeanQuery {
          * @return
          */
         public EbeanQueryWrapper createQuery(Object[] values) {
-            ParametersParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
-            EbeanQueryCreator ebeanQueryCreator = createCreator(accessor);
+            Query ebeanQuery = ebeanServer.createQuery(domainClass);
+            if (criteria != null) {
+                ebeanQuery.where().add(criteria.bind(values));
+            }
+            applyProjection(ebeanQuery, values);
             return
                     restrictMaxResultsIfNecessary(
                             invokeBinding(getBinder(values),
-                                    EbeanQueryWrapper.ofEbeanQuery(ebeanQueryCreator.createQuery())));
+                                    EbeanQueryWrapper.ofEbeanQuery(ebeanQuery)));
         }
 
-        protected EbeanQueryCreator createCreator(ParametersParameterAccessor accessor) {
-            Database ebeanServer = getEbeanServer();
-            Query ebeanQuery = ebeanServer.createQuery(domainClass);
-            ExpressionList expressionList = ebeanQuery.where();
-
-            ParameterMetadataProvider provider = new ParameterMetadataProvider(accessor);
+        /**
+         * Creates the {@link EbeanQueryCreator} compiling the {@link PartTree} against placeholder parameters.
+         *
+         * @return
+         */
+        protected EbeanQueryCreator createCreator() {
+            ParameterMetadataProvider provider = new ParameterMetadataProvider(parameters);
 
             ResultProcessor processor = getQueryMethod().getResultProcessor();
 
-            return new EbeanQueryCreator(tree, processor.getReturnedType(), expressionList, provider);
+            return new EbeanQueryCreator(tree, processor.getReturnedType(), provider,
+                    getQueryMethod().getInListPadding());
+        }
+
+        /**
+         * Selects only the properties of a projection returned by the method, and loads the partial entities into a
+         * persistence context of the query rather than the transaction as they are only converted into the projection.
+         * The select clause of a static projection is resolved once, a dynamic projection is resolved per call.
+         *
+         * @param query
+         * @param values
+         */
+        private void applyProjection(Query<?> query, Object[] values) {
+            String select = parameters.hasDynamicProjection()
+                    ? getProjection(getResultProcessor(values).getReturnedType()) : projection;
+            if (select != null) {
+                query.select(select)
+                        .setPersistenceContextScope(PersistenceContextScope.QUERY);
+            }
+        }
+
+        /**
+         * Returns the select clause of the given {@link ReturnedType}, the top-level properties of its input properties.
+         * Open interface projections may access any property and select the complete entity.
+         *
+         * @param returnedType
+         * @return the select clause, or {@literal null} to select the complete entity.
+         */
+        private String getProjection(ReturnedType returnedType) {
+            if (tree.isDelete() || tree.isExistsProjection() || tree.isCountProjection()) {
+                return null;
+            }
+            if (!returnedType.isProjecting() || returnedType.getInputProperties().isEmpty()) {
+                return null;
+            }
+            Set<String> select = new LinkedHashSet<>();
+            for (String property : returnedType.getInputProperties()) {
+                int dot = property.indexOf('.');
+                select.add(dot < 0 ? property : property.substring(0, dot));
+            }
+            return String.join(",", select);
         }
 
         /**
@@ -146,7 +208,7 @@ public class PartTreeEbeanQuery extends AbstractEbeanQuery {
         }
 
         /**
-         * Invokes parameter binding on the given {@link ExpressionList}.
+         * Invokes parameter binding on the given {@link EbeanQueryWrapper}.
          *
          * @param binder
          * @param query
@@ -157,7 +219,7 @@ public class PartTreeEbeanQuery extends AbstractEbeanQuery {
         }
 
         private ParameterBinder getBinder(Object[] values) {
-            return new ParameterBinder(parameters, values);
+            return new ParameterBinder(parameters, getQueryMethod().getBindingPlan(), values);
         }
 
         private Sort getDynamicSort(Object[] values) {
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.repository.query;
+
+import io.ebean.QueryIterator;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link AbstractEbeanQueryExecution} returning a Reactor {@link Flux} or {@link Mono}. The query is created and
+ * executed on subscription, on the bounded elastic scheduler of Reactor so that the blocking JDBC calls never run on an
+ * event loop thread.
+ * <p>
+ * A {@link Flux} streams the entities from {@link io.ebean.Query#findIterate()}, pulling rows from the result set only
+ * as requested by the subscriber. The iterator and its connection are released when the flux completes, fails or is
+ * cancelled. A {@link Mono} runs the execution of the unwrapped return type, an empty result completes it empty.
+ * <p>
+ * Kept in its own class so that Reactor is only needed on the classpath when reactive query methods are declared.
+ *
+ * @author Xuegui Yuan
+ */
+class ReactiveQueryExecution extends AbstractEbeanQueryExecution {
+
+    private final boolean flux;
+    private final AbstractEbeanQueryExecution delegate;
+    private final Scheduler scheduler;
+
+    /**
+     * Creates a new {@link ReactiveQueryExecution}.
+     *
+     * @param flux     whether to return a {@link Flux} rather than a {@link Mono}.
+     * @param delegate execution of the unwrapped return type of a {@link Mono}, must not be {@literal null}.
+     */
+    ReactiveQueryExecution(boolean flux, AbstractEbeanQueryExecution delegate) {
+        Assert.notNull(delegate, "Delegate execution must not be null!");
+        this.flux = flux;
+        this.delegate = delegate;
+        this.scheduler = Schedulers.boundedElastic();
+    }
+
+    @Override
+    protected Object doExecute(AbstractEbeanQuery query, Object[] values) {
+        if (flux) {
+            ResultProcessor processor = query.getResultProcessor(values);
+            return Flux.using(() -> query.createQuery(values).<Object>findIterate(),
+                            iterator -> Flux.fromIterable(() -> iterator), QueryIterator::close)
+                    .map(entity -> query.processResult(entity, processor))
+                    .subscribeOn(scheduler);
+        }
+        return Mono.fromCallable(() -> delegate.execute(query, values))
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * The entities are converted as they are emitted.
+     */
+    @Override
+    protected Object postProcess(AbstractEbeanQuery query, Object[] values, Object result) {
+        return result;
+    }
+}
@@ -17,7 +17,6 @@
 package org.springframework.data.ebean.repository.query;
 
 import org.springframework.data.repository.query.DefaultParameters;
-import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
@@ -25,8 +24,6 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.Assert;
 
-import java.util.List;
-
 /**
  * A {@link StringQueryParameterBinder} that is able to bind synthetic query parameters.
  *
@@ -37,20 +34,23 @@ class SpelExpressionStringQueryParameterBinder extends StringQueryParameterBinde
     private final StringQuery query;
     private final QueryMethodEvaluationContextProvider evaluationContextProvider;
     private final SpelExpressionParser parser;
+    private EvaluationContext evaluationContext;
 
     /**
      * Creates a new {@link SpelExpressionStringQueryParameterBinder}.
      *
      * @param parameters                must not be {@literal null}
+     * @param plan                      must not be {@literal null}, binds no parameter if all are expressions
      * @param values                    must not be {@literal null}
      * @param query                     must not be {@literal null}
      * @param evaluationContextProvider must not be {@literal null}
      * @param parser                    must not be {@literal null}
      */
-    public SpelExpressionStringQueryParameterBinder(DefaultParameters parameters, Object[] values, StringQuery query,
-                                                    QueryMethodEvaluationContextProvider evaluationContextProvider, SpelExpressionParser parser) {
+    SpelExpressionStringQueryParameterBinder(DefaultParameters parameters, BindingPlan plan, Object[] values,
+                                             StringQuery query, QueryMethodEvaluationContextProvider evaluationContextProvider,
+                                             SpelExpressionParser parser) {
 
-        super(parameters, values, query);
+        super(parameters, plan, values, query);
         Assert.notNull(evaluationContextProvider, "EvaluationContextProvider must not be null!");
         Assert.notNull(parser, "SpelExpressionParser must not be null!");
 
@@ -69,11 +69,15 @@ class SpelExpressionStringQueryParameterBinder extends StringQueryParameterBinde
      * @return
      */
     private EbeanQueryWrapper potentiallyBindExpressionParameters(EbeanQueryWrapper ebeanQuery) {
+        if (!query.hasExpressionBindings()) {
+            return ebeanQuery;
+        }
+
         for (StringQuery.ParameterBinding binding : query.getParameterBindings()) {
 
             if (binding.isExpression()) {
 
-                Expression expr = parseExpressionString(binding.getExpression());
+                Expression expr = binding.getParsedExpression(parser);
 
                 Object value = evaluateExpression(expr);
 
@@ -94,16 +98,6 @@ class SpelExpressionStringQueryParameterBinder extends StringQueryParameterBinde
         return ebeanQuery;
     }
 
-    /**
-     * Parses the given {@code expressionString} into a SpEL {@link Expression}.
-     *
-     * @param expressionString
-     * @return
-     */
-    private Expression parseExpressionString(String expressionString) {
-        return parser.parseExpression(expressionString);
-    }
-
     /**
      * Evaluates the given SpEL {@link Expression}.
      *
@@ -115,36 +109,15 @@ class SpelExpressionStringQueryParameterBinder extends StringQueryParameterBinde
     }
 
     /**
-     * Returns the {@link StandardEvaluationContext} to use for evaluation.
+     * Returns the {@link StandardEvaluationContext} to use for evaluation, created once for all expressions of the
+     * invocation.
      *
      * @return
      */
     private EvaluationContext getEvaluationContext() {
-        return evaluationContextProvider.getEvaluationContext(getParameters(), getValues());
-    }
-
-    @Override
-    protected boolean canBindParameter(Parameter parameter) {
-
-        List<StringQuery.ParameterBinding> parameterBindings = query.getParameterBindings();
-
-        // if no parameter bindings are present, we simply rely on the check in super.
-        if (parameterBindings.isEmpty()) {
-            return super.canBindParameter(parameter);
-        }
-
-        // otherwise determine whether there are any non expression parameters left to be bound.
-        int expressionParameterCount = 0;
-        for (StringQuery.ParameterBinding binding : parameterBindings) {
-
-            if (binding.isExpression()) {
-                expressionParameterCount++;
-            }
+        if (evaluationContext == null) {
+            evaluationContext = evaluationContextProvider.getEvaluationContext(getParameters(), getValues());
         }
-
-        boolean allParametersAreUsedInExpressions = parameterBindings.size() - expressionParameterCount == 0;
-
-        // if all parameters are used in expressions, then we can skip their bindings now, since they'll get bound later.
-        return !allParametersAreUsedInExpressions && super.canBindParameter(parameter);
+        return evaluationContext;
     }
 }
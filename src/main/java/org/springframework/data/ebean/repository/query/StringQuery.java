@@ -17,6 +17,8 @@
 package org.springframework.data.ebean.repository.query;
 
 import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
@@ -44,6 +46,8 @@ class StringQuery {
 
     private final String query;
     private final List<ParameterBinding> bindings;
+    private final boolean expressionBindings;
+    private final boolean onlyExpressionBindings;
 
     /**
      * Creates a new {@link StringQuery} from the given QL query.
@@ -57,6 +61,15 @@ class StringQuery {
         this.bindings = new ArrayList<ParameterBinding>();
         this.query = ParameterBindingParser.INSTANCE.parseParameterBindingsOfQueryIntoBindingsAndReturnCleanedQuery(query,
                 this.bindings);
+
+        int expressionBindingCount = 0;
+        for (ParameterBinding binding : bindings) {
+            if (binding.isExpression()) {
+                expressionBindingCount++;
+            }
+        }
+        this.expressionBindings = expressionBindingCount > 0;
+        this.onlyExpressionBindings = expressionBindings && expressionBindingCount == bindings.size();
     }
 
     /**
@@ -68,6 +81,24 @@ class StringQuery {
         return !bindings.isEmpty();
     }
 
+    /**
+     * Returns whether any of the {@link ParameterBinding}s is a SpEL expression.
+     *
+     * @return
+     */
+    boolean hasExpressionBindings() {
+        return expressionBindings;
+    }
+
+    /**
+     * Returns whether there are {@link ParameterBinding}s and all of them are SpEL expressions.
+     *
+     * @return
+     */
+    boolean hasOnlyExpressionBindings() {
+        return onlyExpressionBindings;
+    }
+
     /**
      * Returns the {@link ParameterBinding}s registered.
      *
@@ -361,6 +392,7 @@ class StringQuery {
         private final String name;
         private final String expression;
         private final Integer position;
+        private volatile Expression parsedExpression;
 
         /**
          * Creates a new {@link ParameterBinding} for the parameter with the given name.
@@ -493,6 +525,22 @@ class StringQuery {
             return expression;
         }
 
+        /**
+         * Returns the SpEL expression of the binding, parsed with the given parser on first access only as the binding
+         * lives as long as the query method.
+         *
+         * @param parser must not be {@literal null}.
+         * @return
+         */
+        Expression getParsedExpression(ExpressionParser parser) {
+            Expression parsed = this.parsedExpression;
+            if (parsed == null) {
+                parsed = parser.parseExpression(expression);
+                this.parsedExpression = parsed;
+            }
+            return parsed;
+        }
+
         /**
          * @param valueToBind
          * @return
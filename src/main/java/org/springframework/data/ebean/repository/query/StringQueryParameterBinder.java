@@ -16,11 +16,14 @@
 
 package org.springframework.data.ebean.repository.query;
 
+import org.springframework.data.ebean.util.InListSupport;
 import org.springframework.data.repository.query.DefaultParameters;
-import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.util.Assert;
 
+import java.util.Collection;
+
+import static org.springframework.data.ebean.repository.query.StringQuery.InParameterBinding;
 import static org.springframework.data.ebean.repository.query.StringQuery.LikeParameterBinding;
 import static org.springframework.data.ebean.repository.query.StringQuery.ParameterBinding;
 
@@ -32,6 +35,7 @@ import static org.springframework.data.ebean.repository.query.StringQuery.Parame
 public class StringQueryParameterBinder extends ParameterBinder {
 
     private final StringQuery query;
+    private int inListPadding;
 
     /**
      * Creates a new {@link StringQueryParameterBinder} from the given {@link Parameters}, method arguments and
@@ -42,47 +46,68 @@ public class StringQueryParameterBinder extends ParameterBinder {
      * @param query      must not be {@literal null}.
      */
     public StringQueryParameterBinder(DefaultParameters parameters, Object[] values, StringQuery query) {
+        this(parameters, BindingPlan.of(parameters, query), values, query);
+    }
+
+    /**
+     * Creates a new {@link StringQueryParameterBinder} for the {@link BindingPlan} of the {@link StringQuery} resolved at
+     * bootstrap.
+     *
+     * @param parameters must not be {@literal null}.
+     * @param plan       must not be {@literal null}.
+     * @param values     must not be {@literal null}.
+     * @param query      must not be {@literal null}.
+     */
+    StringQueryParameterBinder(DefaultParameters parameters, BindingPlan plan, Object[] values, StringQuery query) {
 
-        super(parameters, values);
+        super(parameters, plan, values);
 
         Assert.notNull(query, "StringQuery must not be null!");
         this.query = query;
     }
 
     @Override
-    protected void bind(EbeanQueryWrapper ebeanQuery, Parameter methodParameter, Object value, int position) {
+    void bind(EbeanQueryWrapper ebeanQuery, BindingPlan.Entry entry, Object value) {
 
-        ParameterBinding binding = getBindingFor(ebeanQuery, position, methodParameter);
-        super.bind(ebeanQuery, methodParameter, binding.prepare(value), position);
+        ParameterBinding binding = getBindingFor(entry);
+        Object prepared = binding.prepare(value);
+        if (inListPadding > 0 && binding instanceof InParameterBinding && prepared instanceof Collection) {
+            prepared = InListSupport.pad((Collection<?>) prepared, inListPadding);
+        }
+        super.bind(ebeanQuery, entry, prepared);
     }
 
     /**
-     * Finds the {@link LikeParameterBinding} to be applied before binding a parameter value to the query.
+     * Pads collections bound to {@code IN} parameters to bucketed sizes.
      *
-     * @param ebeanQuery must not be {@literal null}.
-     * @param position
-     * @param parameter  must not be {@literal null}.
-     * @return the {@link ParameterBinding} for the given parameters or {@literal null} if none available.
+     * @param inListPadding largest bucket, {@literal 0} to not pad.
+     * @see org.springframework.data.ebean.annotation.EbeanInListPadding
      */
-    private ParameterBinding getBindingFor(Object ebeanQuery, int position, Parameter parameter) {
+    void setInListPadding(int inListPadding) {
+        this.inListPadding = inListPadding;
+    }
 
-        Assert.notNull(ebeanQuery, "EbeanQueryWrapper must not be null!");
-        Assert.notNull(parameter, "Parameter must not be null!");
+    /**
+     * Returns the {@link LikeParameterBinding} to be applied before binding a parameter value to the query, as resolved
+     * by the {@link BindingPlan}, or looked up in the query for entries created without one.
+     *
+     * @param entry must not be {@literal null}.
+     * @return the {@link ParameterBinding} for the given entry.
+     * @throws IllegalArgumentException if the query has no binding for the named parameter.
+     */
+    private ParameterBinding getBindingFor(BindingPlan.Entry entry) {
 
-        if (parameter.isNamedParameter()) {
-            return query.getBindingFor(parameter.getName().orElseThrow(() -> new IllegalArgumentException("Parameter needs to be named!")));
+        ParameterBinding binding = entry.getBinding();
+        if (binding != null) {
+            return binding;
+        }
+        if (entry.getName() != null) {
+            return query.getBindingFor(entry.getName());
         }
-
         try {
-            return query.getBindingFor(position);
-
+            return query.getBindingFor(entry.getPosition());
         } catch (IllegalArgumentException ex) {
-
-            // We should actually reject parameters unavailable, but as EclipseLink doesn't implement ….getParameter(int) for
-            // native queries correctly we need to fall back to an indexed parameter
-            // see https://bugs.eclipse.org/bugs/show_bug.cgi?id=427892
-
-            return new ParameterBinding(position);
+            return new ParameterBinding(entry.getPosition());
         }
     }
 }
@@ -17,9 +17,17 @@
 package org.springframework.data.ebean.repository.support;
 
 import io.ebean.Database;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.ebean.annotation.EbeanBatch;
+import org.springframework.data.ebean.annotation.EbeanIdChunking;
+import org.springframework.data.ebean.annotation.EbeanPaging;
+import org.springframework.data.ebean.cache.CountCache;
+import org.springframework.data.ebean.repository.BatchOptions;
 import org.springframework.data.ebean.repository.EbeanRepository;
 import org.springframework.data.ebean.repository.query.EbeanQueryLookupStrategy;
+import org.springframework.data.ebean.util.QueryTemplateStatistics;
+import org.springframework.data.ebean.util.QueryTemplateSupport;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -30,6 +38,7 @@ import org.springframework.util.Assert;
 
 import java.io.Serializable;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Ebean specific generic repository factory.
@@ -39,6 +48,9 @@ import java.util.Optional;
 public class EbeanRepositoryFactory extends RepositoryFactorySupport {
 
     private final Database ebeanServer;
+    private final QueryTemplateSupport queryTemplates;
+    private CountCache countCache;
+    private Executor asyncExecutor;
 
     /**
      * Creates a new {@link EbeanRepositoryFactory}.
@@ -48,6 +60,7 @@ public class EbeanRepositoryFactory extends RepositoryFactorySupport {
     public EbeanRepositoryFactory(Database ebeanServer) {
         Assert.notNull(ebeanServer, "EbeanServer must not be null!");
         this.ebeanServer = ebeanServer;
+        this.queryTemplates = new QueryTemplateSupport(ebeanServer);
     }
 
     /*
@@ -59,6 +72,37 @@ public class EbeanRepositoryFactory extends RepositoryFactorySupport {
         super.setBeanClassLoader(classLoader);
     }
 
+    /**
+     * Configures the {@link CountCache} used by repositories and query methods annotated with
+     * {@link EbeanPaging#cacheCount()}.
+     *
+     * @param countCache may be {@literal null}.
+     */
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
+    /**
+     * Configures the executor of query methods returning a {@link java.util.concurrent.CompletableFuture} and of
+     * partitioned scans.
+     *
+     * @param asyncExecutor may be {@literal null} to use
+     *                      {@link org.springframework.data.ebean.util.AsyncSupport#defaultExecutor()}.
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Returns the statistics of the OQL templates of the {@code @Query} methods of the repositories created by this
+     * factory.
+     *
+     * @return
+     */
+    public QueryTemplateStatistics getQueryTemplateStatistics() {
+        return queryTemplates.getStatistics();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
@@ -85,7 +129,27 @@ public class EbeanRepositoryFactory extends RepositoryFactorySupport {
     protected <T extends Persistable, ID extends Serializable> SimpleEbeanRepository<T, ID> getTargetRepository(
             RepositoryInformation information, Database ebeanServer) {
 
-        return getTargetRepositoryViaReflection(information, information.getDomainType(), ebeanServer);
+        SimpleEbeanRepository<T, ID> repository = getTargetRepositoryViaReflection(information,
+                information.getDomainType(), ebeanServer);
+        EbeanPaging paging = AnnotatedElementUtils.findMergedAnnotation(information.getRepositoryInterface(),
+                EbeanPaging.class);
+        repository.setCountCache(countCache);
+        repository.setAsyncExecutor(asyncExecutor);
+        if (paging != null) {
+            repository.setParallelCount(paging.parallelCount());
+            repository.setCacheCount(paging.cacheCount());
+        }
+        EbeanBatch batch = AnnotatedElementUtils.findMergedAnnotation(information.getRepositoryInterface(),
+                EbeanBatch.class);
+        if (batch != null) {
+            repository.setBatchOptions(BatchOptions.of(batch));
+        }
+        EbeanIdChunking idChunking = AnnotatedElementUtils.findMergedAnnotation(information.getRepositoryInterface(),
+                EbeanIdChunking.class);
+        if (idChunking != null) {
+            repository.setIdChunking(idChunking.size(), idChunking.parallel());
+        }
+        return repository;
     }
 
     /*
@@ -104,7 +168,8 @@ public class EbeanRepositoryFactory extends RepositoryFactorySupport {
     @Override
     protected Optional<QueryLookupStrategy> getQueryLookupStrategy(QueryLookupStrategy.Key key,
                                                                    QueryMethodEvaluationContextProvider evaluationContextProvider) {
-        return Optional.ofNullable(EbeanQueryLookupStrategy.create(ebeanServer, key, evaluationContextProvider));
+        return Optional.ofNullable(EbeanQueryLookupStrategy.create(ebeanServer, key, evaluationContextProvider, countCache,
+                asyncExecutor, queryTemplates));
     }
 
     /**
@@ -18,12 +18,17 @@ package org.springframework.data.ebean.repository.support;
 
 import io.ebean.Database;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.ebean.cache.CountCache;
+import org.springframework.data.ebean.util.QueryTemplateStatistics;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
 import org.springframework.util.Assert;
 
+import java.util.concurrent.Executor;
+
 
 /**
  * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
@@ -35,9 +40,24 @@ import org.springframework.util.Assert;
 public class EbeanRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
         extends TransactionalRepositoryFactoryBeanSupport<T, S, ID> {
 
+    /**
+     * Name of the {@link Executor} bean running query methods that return a
+     * {@link java.util.concurrent.CompletableFuture}, virtual threads are used if no such bean is defined.
+     */
+    public static final String ASYNC_EXECUTOR_BEAN_NAME = "ebeanRepositoryAsyncExecutor";
+
     @Autowired
     private Database ebeanServer;
 
+    @Autowired(required = false)
+    private CountCache countCache;
+
+    @Autowired(required = false)
+    @Qualifier(ASYNC_EXECUTOR_BEAN_NAME)
+    private Executor asyncExecutor;
+
+    private RepositoryFactorySupport repositoryFactory;
+
     /**
      * Creates a new {@link EbeanRepositoryFactoryBean} for the given repository interface.
      *
@@ -76,7 +96,23 @@ public class EbeanRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
      */
     @Override
     protected RepositoryFactorySupport doCreateRepositoryFactory() {
-        return createRepositoryFactory(ebeanServer);
+        RepositoryFactorySupport factory = createRepositoryFactory(ebeanServer);
+        if (factory instanceof EbeanRepositoryFactory) {
+            ((EbeanRepositoryFactory) factory).setCountCache(countCache);
+            ((EbeanRepositoryFactory) factory).setAsyncExecutor(asyncExecutor);
+        }
+        this.repositoryFactory = factory;
+        return factory;
+    }
+
+    /**
+     * Returns the statistics of the OQL templates of the {@code @Query} methods of the repository.
+     *
+     * @return the statistics, or {@literal null} if the repository factory is not an {@link EbeanRepositoryFactory}.
+     */
+    public QueryTemplateStatistics getQueryTemplateStatistics() {
+        return repositoryFactory instanceof EbeanRepositoryFactory
+                ? ((EbeanRepositoryFactory) repositoryFactory).getQueryTemplateStatistics() : null;
     }
 
     /**
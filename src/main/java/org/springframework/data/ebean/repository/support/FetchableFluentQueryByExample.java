@@ -0,0 +1,210 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.repository.support;
+
+import io.ebean.Database;
+import io.ebean.Query;
+import io.ebean.QueryIterator;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.ebean.repository.query.DtoInstantiatingConverter;
+import org.springframework.data.ebean.util.Converters;
+import org.springframework.data.ebean.util.ExampleExpressionBuilder;
+import org.springframework.data.ebean.util.PageSupport;
+import org.springframework.data.ebean.util.ScrollSupport;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.util.StreamUtils;
+import org.springframework.util.Assert;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Immutable {@link FluentQuery.FetchableFluentQuery} of the entities matching an {@link Example}.
+ * <p>
+ * Only the properties given to {@link #project(Collection)}, or the input properties of the closed interface
+ * projection or DTO given to {@link #as(Class)}, are selected, loading the other properties lazily on access. DTO input
+ * properties are the names of its constructor parameters. Nested property paths select their top level property, e.g.
+ * {@code manager.fullName} selects the foreign key of {@code manager}.
+ *
+ * @param <S> the entity type of the example
+ * @param <R> the result type
+ * @author Xuegui Yuan
+ */
+class FetchableFluentQueryByExample<S, R> implements FluentQuery.FetchableFluentQuery<R> {
+
+    private final Database ebeanServer;
+    private final Example<S> example;
+    private final Class<R> resultType;
+    private final Sort sort;
+    private final int limit;
+    private final Collection<String> properties;
+    private final ProjectionFactory projectionFactory;
+
+    FetchableFluentQueryByExample(Database ebeanServer, Example<S> example, Class<R> resultType,
+                                  ProjectionFactory projectionFactory) {
+        this(ebeanServer, example, resultType, Sort.unsorted(), 0, Collections.emptySet(), projectionFactory);
+    }
+
+    private FetchableFluentQueryByExample(Database ebeanServer, Example<S> example, Class<R> resultType, Sort sort,
+                                          int limit, Collection<String> properties,
+                                          ProjectionFactory projectionFactory) {
+        this.ebeanServer = ebeanServer;
+        this.example = example;
+        this.resultType = resultType;
+        this.sort = sort;
+        this.limit = limit;
+        this.properties = properties;
+        this.projectionFactory = projectionFactory;
+    }
+
+    @Override
+    public FluentQuery.FetchableFluentQuery<R> sortBy(Sort sort) {
+        Assert.notNull(sort, "Sort must not be null!");
+        return new FetchableFluentQueryByExample<>(ebeanServer, example, resultType, this.sort.and(sort), limit,
+                properties, projectionFactory);
+    }
+
+    @Override
+    public FluentQuery.FetchableFluentQuery<R> limit(int limit) {
+        Assert.isTrue(limit >= 0, "Limit must not be negative!");
+        return new FetchableFluentQueryByExample<>(ebeanServer, example, resultType, sort, limit, properties,
+                projectionFactory);
+    }
+
+    @Override
+    public <NR> FluentQuery.FetchableFluentQuery<NR> as(Class<NR> resultType) {
+        Assert.notNull(resultType, "Projection target type must not be null!");
+        return new FetchableFluentQueryByExample<>(ebeanServer, example, resultType, sort, limit, properties,
+                projectionFactory);
+    }
+
+    @Override
+    public FluentQuery.FetchableFluentQuery<R> project(Collection<String> properties) {
+        Assert.notNull(properties, "Projection properties must not be null!");
+        return new FetchableFluentQueryByExample<>(ebeanServer, example, resultType, sort, limit,
+                new LinkedHashSet<>(properties), projectionFactory);
+    }
+
+    @Override
+    public R oneValue() {
+        List<S> results = createQuery(sort).setMaxRows(2).findList();
+        if (results.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1);
+        }
+        return results.isEmpty() ? null : convert(results.get(0));
+    }
+
+    @Override
+    public R firstValue() {
+        List<S> results = createQuery(sort).setMaxRows(1).findList();
+        return results.isEmpty() ? null : convert(results.get(0));
+    }
+
+    @Override
+    public List<R> all() {
+        return createLimitedQuery().findList().stream().map(this::convert).collect(Collectors.toList());
+    }
+
+    @Override
+    public Window<R> scroll(ScrollPosition scrollPosition) {
+        Assert.isTrue(limit > 0, "Scrolling requires a limit!");
+        return ScrollSupport.scroll(ebeanServer, example.getProbeType(), createQuery(Sort.unsorted()), scrollPosition,
+                sort, limit).map(this::convert);
+    }
+
+    @Override
+    public Page<R> page(Pageable pageable) {
+        Assert.notNull(pageable, "Pageable must not be null!");
+        Query<S> query = createQuery(pageable.getSort().isSorted() ? pageable.getSort() : sort);
+        return PageSupport.findPage(query, pageable, false).map(this::convert);
+    }
+
+    @Override
+    public Stream<R> stream() {
+        QueryIterator<S> iterator = createLimitedQuery().findIterate();
+        return StreamUtils.createStreamFromIterator(iterator).onClose(iterator::close).map(this::convert);
+    }
+
+    @Override
+    public long count() {
+        return createQuery(Sort.unsorted()).findCount();
+    }
+
+    @Override
+    public boolean exists() {
+        return createQuery(Sort.unsorted()).exists();
+    }
+
+    private Query<S> createLimitedQuery() {
+        Query<S> query = createQuery(sort);
+        if (limit > 0) {
+            query.setMaxRows(limit);
+        }
+        return query;
+    }
+
+    private Query<S> createQuery(Sort sort) {
+        Query<S> query = ebeanServer.find(example.getProbeType())
+                .where(ExampleExpressionBuilder.exampleExpression(ebeanServer, example));
+        Set<String> select = getSelectProperties();
+        if (!select.isEmpty()) {
+            query.select(String.join(",", select));
+        }
+        return Converters.applySort(ebeanServer, query, sort);
+    }
+
+    /**
+     * Returns the top level properties to select, empty to select all.
+     */
+    private Set<String> getSelectProperties() {
+        Collection<String> paths = properties;
+        if (paths.isEmpty() && !resultType.isAssignableFrom(example.getProbeType())) {
+            paths = ReturnedType.of(resultType, example.getProbeType(), projectionFactory).getInputProperties();
+        }
+        Set<String> select = new LinkedHashSet<>();
+        for (String path : paths) {
+            int dot = path.indexOf('.');
+            select.add(dot < 0 ? path : path.substring(0, dot));
+        }
+        return select;
+    }
+
+    @SuppressWarnings("unchecked")
+    private R convert(S entity) {
+        if (resultType.isInstance(entity)) {
+            return (R) entity;
+        }
+        if (!resultType.isInterface()) {
+            return (R) DtoInstantiatingConverter.of(resultType).convert(entity);
+        }
+        return projectionFactory.createProjection(resultType, entity);
+    }
+}
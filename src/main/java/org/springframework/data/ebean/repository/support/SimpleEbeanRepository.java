@@ -17,24 +17,54 @@
 package org.springframework.data.ebean.repository.support;
 
 import io.ebean.*;
+import io.ebean.bean.EntityBean;
+import io.ebean.plugin.BeanType;
+import io.ebean.plugin.Property;
 import io.ebean.text.PathProperties;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.ebean.annotation.EbeanIdChunking;
+import org.springframework.data.ebean.cache.CountCache;
+import org.springframework.data.ebean.cache.CountCacheInvalidator;
+import org.springframework.data.ebean.cache.CountCacheKey;
+import org.springframework.data.ebean.repository.BatchOptions;
 import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.repository.PartitionStatistics;
+import org.springframework.data.ebean.util.AsyncSupport;
 import org.springframework.data.ebean.util.Converters;
 import org.springframework.data.ebean.util.ExampleExpressionBuilder;
+import org.springframework.data.ebean.util.InListSupport;
+import org.springframework.data.ebean.util.PageSupport;
+import org.springframework.data.ebean.util.PartitionSupport;
+import org.springframework.data.ebean.util.ScrollSupport;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of the {@link org.springframework.data.repository.CrudRepository} interface. This will offer
@@ -51,11 +81,30 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
     private static final String ID_MUST_NOT_BE_NULL = "The given id must not be null!";
     private static final String PROP_MUST_NOT_BE_NULL = "The given property must not be null!";
     public static final String THE_GIVEN_ITERABLE_OF_ENTITIES_NOT_BE_NULL = "The given Iterable of entities not be null!";
+    private static final String BATCH_OPTIONS_MUST_NOT_BE_NULL = "The given BatchOptions must not be null!";
+    private static final BatchOptions DEFAULT_BATCH_OPTIONS = BatchOptions.of(100);
+    private static final String GET_GENERATED_KEYS = SimpleEbeanRepository.class.getName() + ".getGeneratedKeys";
+    private static final int FIND_EACH_BATCH_SIZE = 100;
+    private static final String ACTION_MUST_NOT_BE_NULL = "The given action must not be null!";
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
 
     private Database ebeanServer;
 
     private Class<T> entityType;
 
+    private boolean parallelCount;
+
+    private CountCache countCache;
+
+    private boolean cacheCount;
+
+    private BatchOptions batchOptions;
+
+    private int idChunkSize = EbeanIdChunking.DEFAULT_SIZE;
+
+    private boolean parallelIdChunks;
+
+    private Executor asyncExecutor = AsyncSupport.defaultExecutor();
 
     /**
      * Creates a new {@link SimpleEbeanRepository} to manage objects of the given domain type.
@@ -70,12 +119,8 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
 
     @Override
     public Page<T> findAll(Pageable pageable) {
-        PagedList<T> pagedList = db().find(getEntityType())
-                .setMaxRows(pageable.getPageSize())
-                .setFirstRow((int) pageable.getOffset())
-                .orderBy(Converters.convertToEbeanOrderBy(pageable.getSort()).toStringFormat())
-                .findPagedList();
-        return Converters.convertToSpringDataPage(pagedList, pageable.getSort());
+        Query<T> query = Converters.applySort(db(), db().find(getEntityType()), pageable.getSort());
+        return PageSupport.findPage(query, pageable, parallelCount, countCache, countKey());
     }
 
     @Override
@@ -87,6 +132,67 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
         return entityType;
     }
 
+    /**
+     * Run the count query of paged finders concurrently with the content query.
+     *
+     * @param parallelCount
+     * @see org.springframework.data.ebean.annotation.EbeanPaging#parallelCount()
+     */
+    public void setParallelCount(boolean parallelCount) {
+        this.parallelCount = parallelCount;
+    }
+
+    /**
+     * Configures the cache of total counts, evicted by the saves, updates and deletes of this repository.
+     *
+     * @param countCache may be {@literal null}.
+     */
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
+    /**
+     * Cache the total count of paged finders in the configured {@link CountCache}.
+     *
+     * @param cacheCount
+     * @see org.springframework.data.ebean.annotation.EbeanPaging#cacheCount()
+     */
+    public void setCacheCount(boolean cacheCount) {
+        this.cacheCount = cacheCount;
+    }
+
+    /**
+     * Write the entities of {@link #saveAll(Iterable)} and {@link #updateAll(Iterable)} in JDBC batches.
+     *
+     * @param batchOptions may be {@literal null} to use the batch settings of the current transaction.
+     * @see org.springframework.data.ebean.annotation.EbeanBatch
+     */
+    public void setBatchOptions(BatchOptions batchOptions) {
+        this.batchOptions = batchOptions;
+    }
+
+    /**
+     * Configures the executor running the partitions of {@link #findAllPartitioned(int, Consumer)}.
+     *
+     * @param asyncExecutor may be {@literal null} to use {@link AsyncSupport#defaultExecutor()}.
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor != null ? asyncExecutor : AsyncSupport.defaultExecutor();
+    }
+
+    /**
+     * Split the ids of {@link #findAllById(Iterable)} and {@link #deleteAllById(Iterable)} into chunks of the given size.
+     *
+     * @param size     max number of ids per statement, must be greater than zero.
+     * @param parallel load the chunks of a find concurrently when there is no current transaction.
+     * @see EbeanIdChunking
+     */
+    public void setIdChunking(int size, boolean parallel) {
+        Assert.isTrue(size > 0, "Id chunk size must be greater than zero!");
+        this.idChunkSize = size;
+        this.parallelIdChunks = parallel;
+    }
+
     @Override
     public Database db(Database db) {
         this.ebeanServer = db;
@@ -105,71 +211,196 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
 
     public <S extends T> S save(S s) {
         db().save(s);
+        evictCounts();
         return s;
     }
 
     public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
         Assert.notNull(entities, THE_GIVEN_ITERABLE_OF_ENTITIES_NOT_BE_NULL);
-        db().saveAll((Collection<?>) entities);
-        return entities;
+        if (batchOptions != null) {
+            return saveAll(entities, batchOptions);
+        }
+        Collection<S> collection = toCollection(entities);
+        db().saveAll(collection);
+        evictCounts();
+        return collection;
+    }
+
+    @Override
+    public <S extends T> Iterable<S> saveAll(Iterable<S> entities, BatchOptions options) {
+        Assert.notNull(entities, THE_GIVEN_ITERABLE_OF_ENTITIES_NOT_BE_NULL);
+        Assert.notNull(options, BATCH_OPTIONS_MUST_NOT_BE_NULL);
+        Collection<S> collection = toCollection(entities);
+        executeInBatch(options, () -> {
+            db().saveAll(collection);
+            return collection;
+        });
+        evictCounts();
+        return collection;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public <S extends T> long saveAll(Stream<S> entities) {
+        Assert.notNull(entities, THE_GIVEN_ITERABLE_OF_ENTITIES_NOT_BE_NULL);
+        try (Stream<S> stream = entities) {
+            return saveAll(stream.iterator());
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public <S extends T> long saveAll(Iterator<S> entities) {
+        Assert.notNull(entities, THE_GIVEN_ITERABLE_OF_ENTITIES_NOT_BE_NULL);
+        BatchOptions options = batchOptions != null ? batchOptions : DEFAULT_BATCH_OPTIONS;
+        List<S> chunk = new ArrayList<>(options.getBatchSize());
+        long saved = 0;
+        try {
+            while (entities.hasNext()) {
+                chunk.add(entities.next());
+                if (chunk.size() == options.getBatchSize() || !entities.hasNext()) {
+                    executeInBatch(options, () -> {
+                        db().saveAll(chunk);
+                        return chunk;
+                    });
+                    saved += chunk.size();
+                    chunk.clear();
+                }
+            }
+        } finally {
+            if (saved > 0) {
+                evictCounts();
+            }
+        }
+        return saved;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PartitionStatistics> findAllPartitioned(int partitions, Consumer<? super T> action) {
+        return findAllPartitioned(partitions, action, null);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PartitionStatistics> findAllPartitioned(int partitions, Consumer<? super T> action,
+                                                        Consumer<PartitionStatistics> progress) {
+        return PartitionSupport.scan(db(), getEntityType(), partitions, asyncExecutor, action,
+                progress);
+    }
+
+    @Override
+    public void findEach(Consumer<T> action) {
+        Assert.notNull(action, ACTION_MUST_NOT_BE_NULL);
+        eachQuery(query(), FIND_EACH_BATCH_SIZE).findEach(action);
+    }
+
+    @Override
+    public void findEachWhile(Predicate<T> action) {
+        Assert.notNull(action, ACTION_MUST_NOT_BE_NULL);
+        eachQuery(query(), FIND_EACH_BATCH_SIZE).findEachWhile(action);
+    }
+
+    @Override
+    public <S extends T> void findEach(String fetchPath, Example<S> example, Consumer<S> action) {
+        Assert.notNull(action, ACTION_MUST_NOT_BE_NULL);
+        eachQuery(queryByExample(fetchPath, example), FIND_EACH_BATCH_SIZE).findEach(action);
+    }
+
+    @Override
+    public void findEach(int batchSize, Consumer<List<T>> action) {
+        Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+        Assert.notNull(action, ACTION_MUST_NOT_BE_NULL);
+        eachQuery(query(), batchSize).findEach(batchSize, action);
     }
 
     @Override
     public <S extends T> S update(S s) {
         db().update(s);
+        evictCounts();
         return s;
     }
 
     @Override
     public Iterable<T> updateAll(Iterable<T> entities) {
         Assert.notNull(entities, THE_GIVEN_ITERABLE_OF_ENTITIES_NOT_BE_NULL);
-        db().updateAll((Collection<?>) entities);
-        return entities;
+        if (batchOptions != null) {
+            return updateAll(entities, batchOptions);
+        }
+        Collection<T> collection = toCollection(entities);
+        db().updateAll(collection);
+        evictCounts();
+        return collection;
+    }
+
+    @Override
+    public Iterable<T> updateAll(Iterable<T> entities, BatchOptions options) {
+        Assert.notNull(entities, THE_GIVEN_ITERABLE_OF_ENTITIES_NOT_BE_NULL);
+        Assert.notNull(options, BATCH_OPTIONS_MUST_NOT_BE_NULL);
+        Collection<T> collection = toCollection(entities);
+        executeInBatch(options, () -> {
+            db().updateAll(collection);
+            return collection;
+        });
+        evictCounts();
+        return collection;
     }
 
     public void deleteById(ID id) {
         Assert.notNull(id, ID_MUST_NOT_BE_NULL);
         db().delete(getEntityType(), id);
+        evictCounts();
     }
 
     @Override
     public void deletePermanentById(ID id) {
         Assert.notNull(id, ID_MUST_NOT_BE_NULL);
         db().deletePermanent(getEntityType(), id);
+        evictCounts();
     }
 
     public void delete(T t) {
         db().delete(t);
+        evictCounts();
     }
 
     @Override
     public void deleteAllById(Iterable<? extends ID> ids) {
-        db().deleteAll(getEntityType(), (Collection<?>) ids);
+        Assert.notNull(ids, "The given Iterable of Id's must not be null!");
+        for (List<? extends ID> chunk : InListSupport.chunks(toCollection(ids), idChunkSize)) {
+            db().deleteAll(getEntityType(), chunk);
+        }
+        evictCounts();
     }
 
     @Override
     public void deletePermanent(T t) {
         db().deletePermanent(t);
+        evictCounts();
     }
 
     public void deleteAll(Iterable<? extends T> entities) {
         Assert.notNull(entities, THE_GIVEN_ITERABLE_OF_ENTITIES_NOT_BE_NULL);
-        db().deleteAll((Collection<?>) entities);
+        db().deleteAll(toCollection(entities));
+        evictCounts();
     }
 
     @Override
     public void deletePermanentAll(Iterable<? extends T> entities) {
         Assert.notNull(entities, THE_GIVEN_ITERABLE_OF_ENTITIES_NOT_BE_NULL);
-        db().deleteAllPermanent((Collection<?>) entities);
+        db().deleteAllPermanent(toCollection(entities));
+        evictCounts();
     }
 
     public void deleteAll() {
         query().delete();
+        evictCounts();
     }
 
     @Override
     public void deletePermanentAll() {
         query().setIncludeSoftDeletes().delete();
+        evictCounts();
     }
 
     public Optional<T> findById(ID id) {
@@ -229,12 +460,10 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<T> findAllById(Iterable<ID> ids) {
         Assert.notNull(ids, "The given Iterable of Id's must not be null!");
-        return query()
-                .where()
-                .idIn((Collection<?>) ids)
-                .findList();
+        return findAllById(ids, () -> query());
     }
 
     @Override
@@ -245,8 +474,7 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
 
     @Override
     public List<T> findAll(Sort sort) {
-        return query()
-                .orderBy(Converters.convertToEbeanOrderBy(sort).toStringFormat())
+        return Converters.applySort(db(), query(), sort)
                 .findList();
     }
 
@@ -257,12 +485,10 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<T> findAll(String fetchPath, Iterable<ID> ids) {
         Assert.notNull(ids, "The given Iterable of Id's must not be null!");
-        return query(fetchPath)
-                .where()
-                .idIn((Collection<?>) ids)
-                .findList();
+        return findAllById(ids, () -> query(fetchPath));
     }
 
     @Override
@@ -273,12 +499,18 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
 
     @Override
     public Page<T> findAll(String fetchPath, Pageable pageable) {
-        PagedList<T> pagedList = query(fetchPath)
-                .setMaxRows(pageable.getPageSize())
-                .setFirstRow((int) pageable.getOffset())
-                .orderBy(Converters.convertToEbeanOrderBy(pageable.getSort()).toStringFormat())
-                .findPagedList();
-        return Converters.convertToSpringDataPage(pagedList, pageable.getSort());
+        Query<T> query = Converters.applySort(db(), query(fetchPath), pageable.getSort());
+        return PageSupport.findPage(query, pageable, parallelCount, countCache, countKey());
+    }
+
+    @Override
+    public Window<T> findAll(ScrollPosition position, Sort sort, int limit) {
+        return ScrollSupport.scroll(db(), getEntityType(), query(), position, sort, limit);
+    }
+
+    @Override
+    public <S extends T> Window<S> findAll(Example<S> example, ScrollPosition position, Sort sort, int limit) {
+        return ScrollSupport.scroll(db(), example.getProbeType(), queryByExample(example), position, sort, limit);
     }
 
     @Override
@@ -311,22 +543,14 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
 
     @Override
     public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
-        PagedList<S> pagedList = queryByExample(example)
-                .setMaxRows(pageable.getPageSize())
-                .setFirstRow((int) pageable.getOffset())
-                .orderBy(Converters.convertToEbeanOrderBy(pageable.getSort()).toStringFormat())
-                .findPagedList();
-        return Converters.convertToSpringDataPage(pagedList, pageable.getSort());
+        Query<S> query = Converters.applySort(db(), queryByExample(example), pageable.getSort());
+        return PageSupport.findPage(query, pageable, parallelCount, countCache, countKey(example));
     }
 
     @Override
     public <S extends T> Page<S> findAll(String fetchPath, Example<S> example, Pageable pageable) {
-        PagedList<S> pagedList = queryByExample(fetchPath, example)
-                .setMaxRows(pageable.getPageSize())
-                .setFirstRow((int) pageable.getOffset())
-                .orderBy(Converters.convertToEbeanOrderBy(pageable.getSort()).toStringFormat())
-                .findPagedList();
-        return Converters.convertToSpringDataPage(pagedList, pageable.getSort());
+        Query<S> query = Converters.applySort(db(), queryByExample(fetchPath, example), pageable.getSort());
+        return PageSupport.findPage(query, pageable, parallelCount, countCache, countKey(example));
     }
 
     @Override
@@ -336,17 +560,20 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
 
     @Override
     public <S extends T> boolean exists(Example<S> example) {
-        return queryByExample(example).findCount() > 0;
+        return queryByExample(example).exists();
     }
 
     @Override
     public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
-        return null;
+        Assert.notNull(example, "Example must not be null!");
+        Assert.notNull(queryFunction, "Query function must not be null!");
+        return queryFunction.apply(new FetchableFluentQueryByExample<>(db(), example, example.getProbeType(),
+                PROJECTION_FACTORY));
     }
 
     public boolean existsById(ID id) {
         Assert.notNull(id, ID_MUST_NOT_BE_NULL);
-        return query().where().idEq(id).findCount() > 0;
+        return query().where().idEq(id).exists();
     }
 
     public long count() {
@@ -366,11 +593,7 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
     }
 
     private Query<T> query(String fetchPath, Sort sort) {
-        if (sort == null) {
-            return query(fetchPath);
-        } else {
-            return query(fetchPath).orderBy(Converters.convertToEbeanOrderBy(sort).toStringFormat());
-        }
+        return Converters.applySort(db(), query(fetchPath), sort);
     }
 
     private <S extends T> Query<S> queryByExample(Example<S> example) {
@@ -386,11 +609,173 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
     }
 
     private <S extends T> Query<S> queryByExample(String fetchPath, Example<S> example, Sort sort) {
-        Query<S> query = queryByExample(fetchPath, example);
-        if (sort != null) {
-            query.orderBy(Converters.convertToEbeanOrderBy(sort).toStringFormat());
+        return Converters.applySort(db(), queryByExample(fetchPath, example), sort);
+    }
+
+    /**
+     * Run the given work in a transaction in JDBC batch mode, joining the current transaction if there is one. The
+     * batch settings of a joined transaction are restored once the batch is flushed.
+     */
+    private <R> R executeInBatch(BatchOptions options, Supplier<R> work) {
+        try (Transaction transaction = db().beginTransaction(TxScope.required())) {
+            boolean batchMode = transaction.isBatchMode();
+            int batchSize = transaction.getBatchSize();
+            boolean getGeneratedKeys = isGetGeneratedKeys(transaction);
+            transaction.setBatchMode(true);
+            transaction.setBatchSize(options.getBatchSize());
+            setGetGeneratedKeys(transaction, getGeneratedKeys, options.isGetGeneratedKeys());
+            R result;
+            try {
+                result = work.get();
+                transaction.flush();
+            } finally {
+                if (transaction.isActive()) {
+                    transaction.setBatchMode(batchMode);
+                    transaction.setBatchSize(batchSize);
+                    setGetGeneratedKeys(transaction, options.isGetGeneratedKeys(), getGeneratedKeys);
+                }
+            }
+            transaction.commit();
+            return result;
+        }
+    }
+
+    /**
+     * Return whether the transaction fetches generated keys. Ebean has no getter for it, so the value set by
+     * {@link #executeInBatch(BatchOptions, Supplier)} is tracked as a user object of the transaction, Ebean's default
+     * of fetching them applies otherwise.
+     */
+    private static boolean isGetGeneratedKeys(Transaction transaction) {
+        Object getGeneratedKeys = transaction.getUserObject(GET_GENERATED_KEYS);
+        return getGeneratedKeys == null || (Boolean) getGeneratedKeys;
+    }
+
+    private static void setGetGeneratedKeys(Transaction transaction, boolean current, boolean getGeneratedKeys) {
+        if (current != getGeneratedKeys) {
+            transaction.setGetGeneratedKeys(getGeneratedKeys);
+            transaction.putUserObject(GET_GENERATED_KEYS, getGeneratedKeys);
+        }
+    }
+
+    /**
+     * Find the entities with the given ids, splitting them into chunks of {@link #setIdChunking(int, boolean) id chunk
+     * size} ids. The finders calling this only join an existing transaction rather than starting one, so parallel
+     * chunks are loaded whenever the caller has no transaction.
+     */
+    private List<T> findAllById(Iterable<ID> ids, Supplier<Query<T>> query) {
+        Collection<ID> idCollection = toCollection(ids);
+        if (idCollection.isEmpty()) {
+            return new ArrayList<>();
+        }
+        boolean parallel = parallelIdChunks && db().currentTransaction() == null;
+        return InListSupport.findList(idCollection, idChunkSize, parallel,
+                chunk -> query.get().where().idIn(chunk).query(), bean -> db().beanId(bean));
+    }
+
+    /**
+     * Prepare the given query to visit its results: beans are loaded into a persistence context of the query rather
+     * than the transaction and lazy loading fetches batches of the given size, so visited beans can be garbage
+     * collected.
+     */
+    private static <S> Query<S> eachQuery(Query<S> query, int batchSize) {
+        return query.setPersistenceContextScope(PersistenceContextScope.QUERY)
+                .setLazyLoadBatchSize(batchSize);
+    }
+
+    /**
+     * Return the given iterable as collection, copying it only when it is not a collection already.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Collection<E> toCollection(Iterable<E> iterable) {
+        if (iterable instanceof Collection) {
+            return (Collection<E>) iterable;
+        }
+        List<E> list = new ArrayList<>();
+        iterable.forEach(list::add);
+        return list;
+    }
+
+    private CountCacheKey countKey() {
+        if (countCache == null || !cacheCount) {
+            return null;
+        }
+        return new CountCacheKey(getEntityType(), "findAll");
+    }
+
+    /**
+     * Key the count of an example by its matcher and the non null property values of its probe, the same properties
+     * {@link ExampleExpressionBuilder} matches on. The values are copied so later changes of the probe do not alter the
+     * key, probes with values that cannot be copied are not cached.
+     */
+    private <S extends T> CountCacheKey countKey(Example<S> example) {
+        if (countCache == null || !cacheCount) {
+            return null;
+        }
+        List<Object> values = new ArrayList<>();
+        if (!addProbeValues(db().pluginApi().beanType(example.getProbeType()), example.getProbe(), "", values)) {
+            return null;
+        }
+        ExampleMatcher matcher = example.getMatcher();
+        return new CountCacheKey(example.getProbeType(),
+                "example:" + matcher.getDefaultStringMatcher() + ":" + matcher.isIgnoreCaseEnabled(),
+                values.toArray());
+    }
+
+    /**
+     * Add the path and a copy of each non null property value of the given bean, recursing into embedded beans.
+     *
+     * @return {@literal false} if a value is of a mutable type that cannot be copied.
+     */
+    private boolean addProbeValues(BeanType<?> beanType, Object bean, String prefix, List<Object> values) {
+        if (beanType == null) {
+            return false;
+        }
+        for (Property property : beanType.allProperties()) {
+            Object value = property.isMany() ? null : property.value(bean);
+            if (value == null) {
+                continue;
+            }
+            String path = prefix + property.name();
+            if (value instanceof EntityBean) {
+                if (!addProbeValues(db().pluginApi().beanType(value.getClass()), value, path + ".", values)) {
+                    return false;
+                }
+                continue;
+            }
+            Object copy = copyProbeValue(value);
+            if (copy == null) {
+                return false;
+            }
+            values.add(path);
+            values.add(copy);
+        }
+        return true;
+    }
+
+    /**
+     * Return the given value if it is immutable, a copy of it for dates and arrays or {@literal null} otherwise.
+     */
+    private static Object copyProbeValue(Object value) {
+        if (value instanceof CharSequence) {
+            return value.toString();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof UUID || value instanceof Temporal) {
+            return value;
+        }
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        return null;
+    }
+
+    private void evictCounts() {
+        if (countCache != null) {
+            CountCacheInvalidator.evictAfterCommit(db(), countCache, getEntityType());
         }
-        return query;
     }
 
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.util;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors for repository query methods executed asynchronously.
+ *
+ * @author Xuegui Yuan
+ */
+public class AsyncSupport {
+
+    /**
+     * Return the default executor of asynchronous query methods, starting a virtual thread per query when running on a
+     * Java runtime that supports virtual threads, and a daemon thread of an unbounded cached pool otherwise.
+     * <p>
+     * Queries block on JDBC for most of their time, so one thread per query is cheap with virtual threads. Concurrency
+     * is effectively bounded by the connection pool of the Ebean {@link io.ebean.Database}.
+     *
+     * @return the shared default executor.
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    private static ExecutorService createDefaultExecutor() {
+        try {
+            Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ebean-async-");
+            threadFactory.setDaemon(true);
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+    }
+
+    private static class DefaultExecutorHolder {
+
+        private static final ExecutorService EXECUTOR = createDefaultExecutor();
+    }
+}
@@ -16,17 +16,20 @@
 
 package org.springframework.data.ebean.util;
 
+import io.ebean.Database;
 import io.ebean.OrderBy;
 import io.ebean.PagedList;
+import io.ebean.Query;
+import io.ebean.plugin.BeanType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Ebean PageList and Order util to or from Spring data Page or Sort.
@@ -35,25 +38,118 @@ import java.util.List;
  */
 public class Converters {
 
+    /**
+     * Max number of cached order by clauses and of validated sorts, the least recently used are evicted.
+     */
+    private static final int MAX_CACHED_SORTS = 1024;
+
+    private static final Map<Sort, String> ORDER_BY = lruCache();
+    private static final Map<List<Object>, Boolean> VALIDATED_SORTS = lruCache();
+
+    private static <K, V> Map<K, V> lruCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > MAX_CACHED_SORTS;
+            }
+        });
+    }
+
     /**
      * Convert spring data Sort to Ebean OrderBy.
      *
      * @param sort
      * @param <T>
-     * @return
+     * @return the OrderBy, {@literal null} if the sort is {@literal null} or unsorted
      */
     public static <T> OrderBy<T> convertToEbeanOrderBy(Sort sort) {
-        if (sort == null) {
+        String orderBy = toOrderBy(sort);
+        return orderBy == null ? null : new OrderBy<T>(orderBy);
+    }
+
+    /**
+     * Convert spring data Sort to an Ebean order by clause, cached per Sort. Orders with an explicit
+     * {@link Sort.NullHandling} order nulls first or last.
+     *
+     * @param sort
+     * @return the order by clause, {@literal null} if the sort is {@literal null} or unsorted
+     */
+    public static String toOrderBy(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
             return null;
         }
-        List<String> list = new ArrayList<>();
+        String orderBy = ORDER_BY.get(sort);
+        if (orderBy == null) {
+            StringBuilder builder = new StringBuilder();
+            for (Sort.Order order : sort) {
+                if (builder.length() > 0) {
+                    builder.append(", ");
+                }
+                builder.append(order.getProperty());
+                if (order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                    builder.append(order.isAscending() ? " asc nulls " : " desc nulls ")
+                            .append(order.getNullHandling() == Sort.NullHandling.NULLS_FIRST ? "first" : "last");
+                } else if (order.isDescending()) {
+                    builder.append(" desc");
+                }
+            }
+            orderBy = builder.toString();
+            ORDER_BY.put(sort, orderBy);
+        }
+        return orderBy;
+    }
+
+    /**
+     * Order the query by the given sort, leaving the query untouched if the sort is {@literal null} or unsorted.
+     *
+     * @param query
+     * @param sort
+     * @param <T>
+     * @return the query
+     */
+    public static <T> Query<T> applySort(Query<T> query, Sort sort) {
+        String orderBy = toOrderBy(sort);
+        return orderBy == null ? query : query.orderBy(orderBy);
+    }
+
+    /**
+     * Order the query by the given sort, leaving the query untouched if the sort is {@literal null} or unsorted. The
+     * sort properties are validated against the bean type of the query once per bean type of the given Database and
+     * sort.
+     *
+     * @param ebeanServer the Database the query belongs to
+     * @param query
+     * @param sort
+     * @param <T>
+     * @return the query
+     * @throws IllegalArgumentException if a sort property is no property path of the bean type
+     */
+    public static <T> Query<T> applySort(Database ebeanServer, Query<T> query, Sort sort) {
+        String orderBy = toOrderBy(sort);
+        if (orderBy == null) {
+            return query;
+        }
+        validate(ebeanServer, query.getBeanType(), sort);
+        return query.orderBy(orderBy);
+    }
 
-        Iterator<Sort.Order> orderIterator = sort.iterator();
-        while (orderIterator.hasNext()) {
-            Sort.Order so = orderIterator.next();
-            list.add(so.getProperty() + " " + so.getDirection());
+    private static void validate(Database ebeanServer, Class<?> type, Sort sort) {
+        BeanType<?> beanType = ebeanServer.pluginApi().beanType(type);
+        if (beanType == null) {
+            return;
+        }
+        // the bean type is specific to the Database, so is the key
+        List<Object> key = List.of(beanType, sort);
+        if (VALIDATED_SORTS.containsKey(key)) {
+            return;
+        }
+        for (Sort.Order order : sort) {
+            if (!beanType.isValidExpression(order.getProperty())) {
+                throw new IllegalArgumentException(String.format("No property %s found for type %s to sort by!",
+                        order.getProperty(), type.getName()));
+            }
         }
-        return new OrderBy<T>(StringUtils.collectionToCommaDelimitedString(list));
+        VALIDATED_SORTS.put(key, Boolean.TRUE);
     }
 
     /**
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.util;
+
+import io.ebean.FutureList;
+import io.ebean.Query;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Split and pad the values of {@code IN} predicates so that huge value lists stay below database parameter limits and
+ * the number of distinct statement shapes stays small.
+ * <p>
+ * Values are split into chunks of at most {@code chunkSize} values, each chunk is padded to the next power of two (but
+ * not beyond {@code chunkSize}) by repeating its last value. A list of 20000 ids with a chunk size of 1000 thus always
+ * results in statements with 1000 or a power of two bind parameters.
+ * <p>
+ * The effect on Ebean's query plan cache can be observed with {@code Database.metaInfo().collectMetrics()}, which
+ * reports one query metric per executed query plan.
+ *
+ * @author Xuegui Yuan
+ */
+public class InListSupport {
+
+    /**
+     * Return the bucket size for the given number of values, the next power of two up to {@code maxSize}, and the next
+     * multiple of {@code maxSize} above.
+     *
+     * @param size    number of values, greater than zero.
+     * @param maxSize largest power of two bucket, greater than zero.
+     * @return the bucket size.
+     */
+    public static int bucketSize(int size, int maxSize) {
+        if (size > maxSize) {
+            long bucket = ((long) size + maxSize - 1) / maxSize * maxSize;
+            return bucket > Integer.MAX_VALUE ? size : (int) bucket;
+        }
+        int bucket = size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        return Math.max(size, Math.min(bucket, maxSize));
+    }
+
+    /**
+     * Pad the given values to their bucket size by repeating the last value.
+     *
+     * @param values  values of an {@code IN} predicate.
+     * @param maxSize largest power of two bucket.
+     * @return the padded values, the given collection if it already has the bucket size.
+     */
+    public static <E> Collection<E> pad(Collection<E> values, int maxSize) {
+        if (values.isEmpty()) {
+            return values;
+        }
+        int bucket = bucketSize(values.size(), maxSize);
+        if (bucket == values.size()) {
+            return values;
+        }
+        List<E> padded = new ArrayList<>(bucket);
+        padded.addAll(values);
+        E last = padded.get(padded.size() - 1);
+        while (padded.size() < bucket) {
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    /**
+     * Split the given values into chunks of at most {@code chunkSize} distinct values, keeping their order.
+     *
+     * @param values    values of an {@code IN} predicate.
+     * @param chunkSize max number of values per chunk, greater than zero.
+     * @return the chunks.
+     */
+    public static <E> List<List<E>> chunks(Collection<E> values, int chunkSize) {
+        Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+        List<E> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+        List<List<E>> chunks = new ArrayList<>((distinct.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            chunks.add(distinct.subList(from, Math.min(from + chunkSize, distinct.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Run one query per chunk of the given values and merge the results in the order of the given values.
+     *
+     * @param values    values of the {@code IN} predicate.
+     * @param chunkSize max number of values per query.
+     * @param parallel  run the queries concurrently using Ebean's background executor. Each query then runs in its own
+     *                  transaction and only sees committed data.
+     * @param query     creates the query for a chunk of padded values.
+     * @param valueOf   returns the value of a result matched by the {@code IN} predicate, e.g. its id.
+     * @param <T>
+     * @return the merged results, one per distinct value found.
+     */
+    public static <T, E> List<T> findList(Collection<E> values, int chunkSize, boolean parallel,
+                                          Function<Collection<E>, Query<T>> query, Function<? super T, ?> valueOf) {
+        List<List<E>> chunks = chunks(values, chunkSize);
+        List<T> result = new ArrayList<>();
+        if (chunks.size() == 1 || !parallel) {
+            for (List<E> chunk : chunks) {
+                result.addAll(query.apply(pad(chunk, chunkSize)).findList());
+            }
+            return inValueOrder(chunks, result, valueOf);
+        }
+        List<FutureList<T>> futures = new ArrayList<>(chunks.size());
+        for (List<E> chunk : chunks) {
+            futures.add(query.apply(pad(chunk, chunkSize)).findFutureList());
+        }
+        try {
+            for (FutureList<T> future : futures) {
+                result.addAll(future.get());
+            }
+            return inValueOrder(chunks, result, valueOf);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Interrupted while waiting for chunked query!", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static <T, E> List<T> inValueOrder(List<List<E>> chunks, List<T> result, Function<? super T, ?> valueOf) {
+        Map<Object, T> byValue = new LinkedHashMap<>();
+        for (T bean : result) {
+            byValue.put(valueOf.apply(bean), bean);
+        }
+        List<T> ordered = new ArrayList<>(byValue.size());
+        for (List<E> chunk : chunks) {
+            for (E value : chunk) {
+                T bean = byValue.remove(value);
+                if (bean != null) {
+                    ordered.add(bean);
+                }
+            }
+        }
+        // values of a different type than the given ones, e.g. Integer ids passed for Long ids
+        ordered.addAll(byValue.values());
+        return ordered;
+    }
+}
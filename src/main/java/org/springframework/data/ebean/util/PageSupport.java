@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.util;
+
+import io.ebean.PagedList;
+import io.ebean.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.ebean.cache.CountCache;
+import org.springframework.data.ebean.cache.CountCacheKey;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+/**
+ * Load Ebean queries into a Spring data {@link Page}.
+ *
+ * @author Xuegui Yuan
+ */
+public class PageSupport {
+
+    /**
+     * Return the page of the given query, the count query is skipped when the total can be derived from the content.
+     *
+     * @param query         query with predicates and order by applied.
+     * @param pageable      page request.
+     * @param parallelCount run the count query concurrently with the content query, see
+     *                      {@link org.springframework.data.ebean.annotation.EbeanPaging#parallelCount()}.
+     * @param <T>
+     * @return the page.
+     */
+    public static <T> Page<T> findPage(Query<T> query, Pageable pageable, boolean parallelCount) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(query.findList());
+        }
+        PagedList<T> pagedList = query
+                .setFirstRow((int) pageable.getOffset())
+                .setMaxRows(pageable.getPageSize())
+                .findPagedList();
+        if (parallelCount) {
+            pagedList.loadCount();
+        }
+        List<T> content = pagedList.getList();
+        return PageableExecutionUtils.getPage(content, pageable, pagedList::getTotalCount);
+    }
+
+    /**
+     * Return the page of the given query, taking the total count from the given cache if present.
+     *
+     * @param query         query with predicates and order by applied.
+     * @param pageable      page request.
+     * @param parallelCount run the count query concurrently with the content query, only applies without cache.
+     * @param countCache    cache of total counts, may be {@literal null} to not cache. On a miss the count query
+     *                      runs after the content query, and only if the total cannot be derived from the content.
+     * @param countKey      key of the total count in the cache, may be {@literal null} to not cache.
+     * @param <T>
+     * @return the page.
+     */
+    public static <T> Page<T> findPage(Query<T> query, Pageable pageable, boolean parallelCount,
+                                       CountCache countCache, CountCacheKey countKey) {
+        if (countCache == null || countKey == null || pageable.isUnpaged()) {
+            return findPage(query, pageable, parallelCount);
+        }
+        Query<T> countQuery = query.copy();
+        List<T> content = query
+                .setFirstRow((int) pageable.getOffset())
+                .setMaxRows(pageable.getPageSize())
+                .findList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> countCache.get(countKey, countQuery::findCount));
+    }
+}
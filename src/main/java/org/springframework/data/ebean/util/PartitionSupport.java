@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.util;
+
+import io.ebean.Database;
+import io.ebean.plugin.BeanType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.ebean.repository.PartitionStatistics;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Scan all entities of a type in parallel, split into ranges of their numeric ids.
+ * <p>
+ * The range between the smallest and largest id is split into equally wide partitions. Each partition is visited with
+ * {@link io.ebean.Query#findEach(Consumer)} on its own thread, and therefore in its own transaction, with its own
+ * connection and persistence context. Gaps in the ids make partitions uneven in rows, not in width.
+ * <p>
+ * The scan fails fast: once a partition fails the others stop visiting entities and the failure is rethrown without
+ * waiting for them.
+ *
+ * @author Xuegui Yuan
+ */
+public class PartitionSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionSupport.class);
+
+    /**
+     * Number of visited entities between two progress reports of a partition.
+     */
+    public static final int PROGRESS_INTERVAL = 10000;
+
+    /**
+     * Visit all entities of the given type, partitioned by id range.
+     *
+     * @param ebeanServer the Database of the entities
+     * @param entityType  type of the entities, must have a numeric id
+     * @param partitions  max number of partitions, greater than zero
+     * @param executor    runs the partitions
+     * @param action      called concurrently from the partition threads for each entity
+     * @param progress    called from the partition threads every {@link #PROGRESS_INTERVAL} entities and once a
+     *                    partition completed, may be {@literal null}
+     * @param <T>
+     * @return the statistics of the completed partitions
+     */
+    public static <T> List<PartitionStatistics> scan(Database ebeanServer, Class<T> entityType, int partitions,
+                                                     Executor executor, Consumer<? super T> action,
+                                                     Consumer<PartitionStatistics> progress) {
+        Assert.isTrue(partitions > 0, "Partitions must be greater than zero!");
+        Assert.notNull(action, "Action must not be null!");
+
+        BeanType<T> beanType = ebeanServer.pluginApi().beanType(entityType);
+        String idProperty = beanType.idProperty().name();
+        Object min = ebeanServer.find(entityType).select("min(" + idProperty + ")").findSingleAttribute();
+        Object max = ebeanServer.find(entityType).select("max(" + idProperty + ")").findSingleAttribute();
+        if (min == null || max == null) {
+            return new ArrayList<>();
+        }
+        if (!(min instanceof Number) || !(max instanceof Number)) {
+            throw new IllegalArgumentException(String.format("Partitioned scans require numeric ids, %s has %s ids!",
+                    entityType.getName(), min.getClass().getName()));
+        }
+
+        long first = ((Number) min).longValue();
+        long last = ((Number) max).longValue();
+        // the distance between the ids and the width are unsigned, they exceed Long.MAX_VALUE for ranges spanning
+        // negative and positive ids, a width of 0 stands for 2^64
+        long width = Long.divideUnsigned(last - first, partitions) + 1;
+        AtomicBoolean failed = new AtomicBoolean();
+        CompletableFuture<Void> failure = new CompletableFuture<>();
+        List<CompletableFuture<PartitionStatistics>> futures = new ArrayList<>(partitions);
+        for (long from = first; ; ) {
+            int partition = futures.size();
+            long to = Long.compareUnsigned(last - from, width - 1) <= 0 ? last : from + width - 1;
+            long rangeFrom = from;
+            futures.add(CompletableFuture.supplyAsync(() -> scanPartition(ebeanServer, entityType, idProperty,
+                    partition, rangeFrom, to, action, progress, failed), executor)
+                    .whenComplete((statistics, e) -> {
+                        if (e != null) {
+                            failed.set(true);
+                            failure.completeExceptionally(e);
+                        }
+                    }));
+            if (to == last) {
+                break;
+            }
+            from = to + 1;
+        }
+
+        try {
+            CompletableFuture.anyOf(failure, CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])))
+                    .join();
+        } catch (CompletionException e) {
+            failed.set(true);
+            futures.forEach(future -> future.cancel(true));
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+        List<PartitionStatistics> statistics = new ArrayList<>(futures.size());
+        futures.forEach(future -> statistics.add(future.join()));
+        return statistics;
+    }
+
+    private static <T> PartitionStatistics scanPartition(Database ebeanServer, Class<T> entityType, String idProperty,
+                                                         int partition, long from, long to,
+                                                         Consumer<? super T> action,
+                                                         Consumer<PartitionStatistics> progress,
+                                                         AtomicBoolean failed) {
+        long start = System.nanoTime();
+        long[] rows = {0};
+        ebeanServer.find(entityType)
+                .where()
+                .between(idProperty, from, to)
+                .findEachWhile(bean -> {
+                    if (failed.get()) {
+                        return false;
+                    }
+                    action.accept(bean);
+                    if (++rows[0] % PROGRESS_INTERVAL == 0 && progress != null) {
+                        progress.accept(new PartitionStatistics(partition, from, to, rows[0], System.nanoTime() - start,
+                                false));
+                    }
+                    return true;
+                });
+        PartitionStatistics statistics = new PartitionStatistics(partition, from, to, rows[0],
+                System.nanoTime() - start, !failed.get());
+        LOG.debug("Scanned {} of {}", statistics, entityType.getName());
+        if (progress != null) {
+            progress.accept(statistics);
+        }
+        return statistics;
+    }
+}
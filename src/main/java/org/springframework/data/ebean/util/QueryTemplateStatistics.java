@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.util;
+
+/**
+ * Point in time statistics of the OQL templates of a repository, see {@link QueryTemplateSupport}.
+ *
+ * @author Xuegui Yuan
+ */
+public final class QueryTemplateStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final int size;
+
+    public QueryTemplateStatistics(long hitCount, long missCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.size = size;
+    }
+
+    /**
+     * Number of queries copied from a cached template.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Number of queries parsed from their OQL.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Number of templates currently held.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Ratio of hits to all requests, {@literal 0} when there were no requests.
+     */
+    public double getHitRatio() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryTemplateStatistics{hits=" + hitCount + ", misses=" + missCount + ", size=" + size + "}";
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.util;
+
+import io.ebean.Database;
+import io.ebean.Query;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parsed OQL query templates of the {@code @Query} methods of one repository. Parsing the OQL of a method is done once
+ * per type and query string, every invocation gets a {@link Query#copy()} of the template to bind, sort and execute, the
+ * template itself is never executed. The templates are bound to the {@link Database} of the repository and only live
+ * as long as its queries, so their number is bounded by the query methods of the repository.
+ *
+ * @author Xuegui Yuan
+ */
+public class QueryTemplateSupport {
+
+    private final Database ebeanServer;
+    private final Map<List<Object>, Query<?>> templates = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Creates the templates of a repository using the given {@link Database}.
+     *
+     * @param ebeanServer must not be {@literal null}.
+     */
+    public QueryTemplateSupport(Database ebeanServer) {
+        Assert.notNull(ebeanServer, "EbeanServer must not be null!");
+        this.ebeanServer = ebeanServer;
+    }
+
+    /**
+     * Create the query for the given OQL from its template, parsing the template on first use.
+     *
+     * @param type the bean type of the query
+     * @param oql  the OQL query string
+     * @param <T>
+     * @return a copy of the template, owned by the caller
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Query<T> createQuery(Class<T> type, String oql) {
+        Assert.notNull(type, "Type must not be null!");
+        Assert.hasText(oql, "Query must not be null or empty!");
+
+        boolean[] parsed = new boolean[1];
+        Query<T> template = (Query<T>) templates.computeIfAbsent(List.of(type, oql), key -> {
+            parsed[0] = true;
+            return ebeanServer.createQuery(type, oql);
+        });
+        (parsed[0] ? missCount : hitCount).increment();
+        return template.copy();
+    }
+
+    /**
+     * Return the statistics of the templates.
+     */
+    public QueryTemplateStatistics getStatistics() {
+        return new QueryTemplateStatistics(hitCount.sum(), missCount.sum(), templates.size());
+    }
+
+    /**
+     * Remove all templates and reset the statistics.
+     */
+    public void clear() {
+        templates.clear();
+        hitCount.reset();
+        missCount.reset();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.util;
+
+import io.ebean.Database;
+import io.ebean.Expr;
+import io.ebean.Expression;
+import io.ebean.Query;
+import io.ebean.plugin.BeanType;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scroll Ebean queries by {@link ScrollPosition} into a Spring data {@link Window}.
+ * <p>
+ * A {@link KeysetScrollPosition} is turned into a seek predicate on the last seen sort key values, e.g.
+ * {@code (a, b) > (?, ?)} expanded to {@code a > ? or (a = ? and b > ?)} so that mixed sort directions work on every
+ * database. The id property is always appended to the sort to make the keyset unique. The keyset orders sort
+ * {@literal null} last, and the seek predicate treats {@literal null} key values accordingly, so nullable sort
+ * properties scroll in both directions.
+ *
+ * @author Xuegui Yuan
+ */
+public class ScrollSupport {
+
+    /**
+     * Scroll the given query to the given position.
+     *
+     * @param ebeanServer the Database the query belongs to
+     * @param entityType  the bean type of the query
+     * @param query       query containing the predicates only, sort and limits are applied here
+     * @param position    keyset or offset position to scroll to
+     * @param sort        sort of the window, must not be {@literal null}
+     * @param limit       max number of entities in the window
+     * @param <T>
+     * @return the window of entities at the given position
+     */
+    public static <T> Window<T> scroll(Database ebeanServer, Class<T> entityType, Query<T> query,
+                                       ScrollPosition position, Sort sort, int limit) {
+        Assert.notNull(position, "ScrollPosition must not be null!");
+        Assert.notNull(sort, "Sort must not be null!");
+        Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+        if (position instanceof OffsetScrollPosition) {
+            return scrollOffset(ebeanServer, query, (OffsetScrollPosition) position, sort, limit);
+        }
+        if (position instanceof KeysetScrollPosition) {
+            return scrollKeyset(ebeanServer, ebeanServer.pluginApi().beanType(entityType), query,
+                    (KeysetScrollPosition) position, sort, limit);
+        }
+        throw new IllegalArgumentException(String.format("ScrollPosition %s not supported!", position));
+    }
+
+    private static <T> Window<T> scrollOffset(Database ebeanServer, Query<T> query, OffsetScrollPosition position,
+                                              Sort sort, int limit) {
+        long startOffset = position.isInitial() ? 0 : position.getOffset() + 1;
+        List<T> result = Converters.applySort(ebeanServer, query, sort)
+                .setFirstRow((int) startOffset)
+                .setMaxRows(limit + 1)
+                .findList();
+        boolean hasNext = result.size() > limit;
+        return Window.from(hasNext ? result.subList(0, limit) : result, i -> ScrollPosition.offset(startOffset + i),
+                hasNext);
+    }
+
+    private static <T> Window<T> scrollKeyset(Database ebeanServer, BeanType<T> beanType, Query<T> query,
+                                              KeysetScrollPosition position, Sort sort, int limit) {
+        Sort keysetSort = nullsLast(withIdentifier(beanType, sort));
+        Sort querySort = position.scrollsBackward() ? reverse(keysetSort) : keysetSort;
+
+        if (!position.isInitial()) {
+            query.where().add(seekPredicate(querySort, position.getKeys()));
+        }
+        List<T> result = Converters.applySort(ebeanServer, query, querySort)
+                .setMaxRows(limit + 1)
+                .findList();
+
+        boolean hasNext = result.size() > limit;
+        List<T> window = new ArrayList<>(hasNext ? result.subList(0, limit) : result);
+        if (position.scrollsBackward()) {
+            Collections.reverse(window);
+        }
+        return Window.from(window, i -> ScrollPosition.of(keys(beanType, keysetSort, window.get(i)),
+                position.getDirection()), hasNext);
+    }
+
+    /**
+     * Return the sort with the id property appended, unless already sorted by id.
+     */
+    private static Sort withIdentifier(BeanType<?> beanType, Sort sort) {
+        String idProperty = beanType.idProperty().name();
+        if (sort.getOrderFor(idProperty) != null) {
+            return sort;
+        }
+        return sort.and(Sort.by(idProperty));
+    }
+
+    /**
+     * Return the sort ordering {@literal null} values last.
+     */
+    private static Sort nullsLast(Sort sort) {
+        return Sort.by(sort.stream().map(Sort.Order::nullsLast).toList());
+    }
+
+    /**
+     * Return the sort with reversed directions and {@literal null} handling, walking the keyset backwards.
+     */
+    private static Sort reverse(Sort sort) {
+        return Sort.by(sort.stream()
+                .map(order -> {
+                    Sort.Order reversed = order.with(order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC);
+                    return order.getNullHandling() == Sort.NullHandling.NULLS_LAST ? reversed.nullsFirst()
+                            : reversed.nullsLast();
+                })
+                .toList());
+    }
+
+    /**
+     * Build the seek predicate {@code k1 > v1 or (k1 = v1 and k2 > v2) or ...} using {@code <} for descending orders.
+     * A {@literal null} key value matches {@code is null} for equality, and sorts after or before all other values
+     * according to the {@link Sort.NullHandling} of its order.
+     */
+    private static Expression seekPredicate(Sort sort, Map<String, Object> keys) {
+        List<Sort.Order> orders = sort.toList();
+        Expression or = null;
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            Expression after = after(order, keyValue(keys, order.getProperty()));
+            if (after == null) {
+                continue;
+            }
+            Expression and = null;
+            for (int j = 0; j < i; j++) {
+                String property = orders.get(j).getProperty();
+                Object value = keyValue(keys, property);
+                and = and(and, value == null ? Expr.isNull(property) : Expr.eq(property, value));
+            }
+            and = and(and, after);
+            or = or == null ? and : Expr.or(or, and);
+        }
+        return or != null ? or : Expr.raw("1=0");
+    }
+
+    /**
+     * Build the predicate of the values after the given value in the order, {@literal null} if there are none.
+     */
+    private static Expression after(Sort.Order order, Object value) {
+        String property = order.getProperty();
+        boolean nullsLast = order.getNullHandling() == Sort.NullHandling.NULLS_LAST;
+        if (value == null) {
+            return nullsLast ? null : Expr.isNotNull(property);
+        }
+        Expression after = order.isAscending() ? Expr.gt(property, value) : Expr.lt(property, value);
+        return nullsLast ? Expr.or(after, Expr.isNull(property)) : after;
+    }
+
+    private static Expression and(Expression base, Expression expression) {
+        return base == null ? expression : Expr.and(base, expression);
+    }
+
+    private static Object keyValue(Map<String, Object> keys, String property) {
+        if (!keys.containsKey(property)) {
+            throw new IllegalStateException(String.format("KeysetScrollPosition does not contain a value for sort property %s!", property));
+        }
+        return keys.get(property);
+    }
+
+    private static Map<String, Object> keys(BeanType<?> beanType, Sort sort, Object bean) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            keys.put(order.getProperty(), beanType.expressionPath(order.getProperty()).pathGet(bean));
+        }
+        return keys;
+    }
+}
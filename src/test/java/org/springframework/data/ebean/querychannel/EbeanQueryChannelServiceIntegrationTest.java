@@ -3,15 +3,25 @@ package org.springframework.data.ebean.querychannel;
 import io.ebean.Query;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.ebean.querychannel.processor.QueryObjectBinderProcessor;
 import org.springframework.data.ebean.sample.config.SampleConfig;
 import org.springframework.data.ebean.sample.domain.User;
 import org.springframework.data.ebean.sample.domain.UserInfo;
 import org.springframework.data.ebean.sample.domain.UserRepository;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.ServiceLoader;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -153,4 +163,59 @@ class EbeanQueryChannelServiceIntegrationTest {
         assertThat(userInfo.getFirstName()).isEqualTo("QueryChannel");
         assertThat(userInfo.getEmailAddress()).isEqualTo("testquerychannel@163.com");
     }
+
+    @Test
+    void queryObjectBinderProcessor_disabledByDefault(@TempDir Path dir) throws Exception {
+        assertThat(compileQueryObject(dir)).isZero();
+
+        assertThat(dir.resolve("probe/EmailQuery__QueryObjectBinder.class")).doesNotExist();
+        assertThat(dir.resolve("META-INF/services/" + GeneratedQueryObjectBinder.class.getName())).doesNotExist();
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void queryObjectBinderProcessor_registersGeneratedBinder(@TempDir Path dir) throws Exception {
+        assertThat(compileQueryObject(dir, "-A" + QueryObjectBinderProcessor.GENERATE_OPTION)).isZero();
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> queryObjectType = loader.loadClass("probe.EmailQuery");
+            GeneratedQueryObjectBinder binder = ServiceLoader.load(GeneratedQueryObjectBinder.class, loader)
+                    .stream()
+                    .map(ServiceLoader.Provider::get)
+                    .filter(it -> it.getQueryObjectType() == queryObjectType)
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(binder.getClass().getName()).isEqualTo("probe.EmailQuery__QueryObjectBinder");
+            assertThat(binder.getIncludeFields()).isEqualTo("emailAddress");
+
+            Object queryObject = queryObjectType.getConstructor().newInstance();
+            queryObjectType.getField("emailAddress").set(queryObject, "querychannel");
+            Query<User> query = repository.db().find(User.class);
+            binder.bind(query.where(), queryObject);
+            assertThat(query.findList()).extracting(User::getEmailAddress)
+                    .containsExactly("testquerychannel@163.com");
+        }
+    }
+
+    private static int compileQueryObject(Path dir, String... options) throws IOException {
+        Path source = dir.resolve("probe/EmailQuery.java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, "package probe;\n"
+                + "@org.springframework.data.ebean.annotation.IncludeFields(\"emailAddress\")\n"
+                + "public class EmailQuery {\n"
+                + "    @org.springframework.data.ebean.annotation.ExprParam(\n"
+                + "            expr = org.springframework.data.ebean.querychannel.ExprType.CONTAINS)\n"
+                + "    public String emailAddress;\n"
+                + "}\n");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String[] args = new String[options.length + 8];
+        System.arraycopy(options, 0, args, 0, options.length);
+        System.arraycopy(new String[]{
+                "-processor", QueryObjectBinderProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", dir.toString(),
+                source.toString()}, 0, args, options.length, 8);
+        return compiler.run(null, null, null, args);
+    }
 }
\ No newline at end of file
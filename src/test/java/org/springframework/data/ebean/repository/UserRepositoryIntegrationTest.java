@@ -1,19 +1,64 @@
 package org.springframework.data.ebean.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import io.ebean.Database;
+import io.ebean.Transaction;
+import io.ebean.test.LoggedSql;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.ebean.cache.CountCache;
+import org.springframework.data.ebean.cache.CountCacheKey;
+import org.springframework.data.ebean.cache.CountCacheStatistics;
+import org.springframework.data.ebean.annotation.EbeanBatch;
+import org.springframework.data.ebean.annotation.EbeanIdChunking;
+import org.springframework.data.ebean.annotation.Modifying;
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.cache.TtlCountCache;
+import org.springframework.data.ebean.repository.support.EbeanRepositoryFactory;
+import org.springframework.data.ebean.repository.support.EbeanRepositoryFactoryBean;
 import org.springframework.data.ebean.sample.config.SampleConfig;
 import org.springframework.data.ebean.sample.domain.FullName;
+import org.springframework.data.ebean.sample.domain.Role;
 import org.springframework.data.ebean.sample.domain.User;
 import org.springframework.data.ebean.sample.domain.UserRepository;
 import org.springframework.data.ebean.sample.domain.query.QAddress;
+import org.springframework.data.ebean.util.Converters;
+import org.springframework.data.ebean.util.InListSupport;
+import org.springframework.data.ebean.util.QueryTemplateStatistics;
+import org.springframework.data.repository.query.Param;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author Xuegui Yuan
@@ -24,6 +69,19 @@ class UserRepositoryIntegrationTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @Autowired
+    CountCache countCache;
+
+    @Autowired
+    @Qualifier(EbeanRepositoryFactoryBean.ASYNC_EXECUTOR_BEAN_NAME)
+    ThreadPoolTaskExecutor asyncExecutor;
+
     // Test fixture
     User user;
 
@@ -100,6 +158,651 @@ class UserRepositoryIntegrationTest {
             assertThat(u.getAge()).isEqualTo(32);
         }
     }
+
+    @Test
+    void findByLastNameNamedOql_concurrently() throws Exception {
+        int lastNames = 8;
+        for (int i = 0; i < lastNames; i++) {
+            userRepository.save(new User("named", "named" + i, "named" + i + "@163.com"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(lastNames);
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < lastNames * 25; i++) {
+                String lastName = "named" + (i % lastNames);
+                tasks.add(() -> {
+                    List<User> result = userRepository.findByLastNameNamedOql(lastName);
+                    return result.size() == 1 && lastName.equals(result.get(0).getFullName().getLastName());
+                });
+            }
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                assertThat(future.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void findByFullNameFirstNameNot() throws Exception {
+        userRepository.save(new User(null, "Nobody", "nobody@163.com"));
+        userRepository.save(new User("Other", "Yuan", "other@163.com"));
+
+        assertThat(userRepository.findByFullNameFirstNameNot(null))
+            .extracting(User::getEmailAddress)
+            .containsExactlyInAnyOrder("yuanxuegui@163.com", "other@163.com");
+        assertThat(userRepository.findByFullNameFirstNameNot("Xuegui"))
+            .extracting(User::getEmailAddress)
+            .containsExactly("other@163.com");
+    }
+
+    @Test
+    void findByFullNameFirstName_optionalArgument() throws Exception {
+        userRepository.save(new User(null, "Nobody", "nobody@163.com"));
+
+        assertThat(userRepository.findByFullNameFirstName(Optional.of("Xuegui")))
+            .extracting(User::getEmailAddress)
+            .containsExactly("yuanxuegui@163.com");
+        assertThat(userRepository.findByFullNameFirstName(Optional.empty()))
+            .extracting(User::getEmailAddress)
+            .containsExactly("nobody@163.com");
+        assertThat(userRepository.findByEmailAddressStartingWith(Optional.of("yuan")))
+            .extracting(User::getEmailAddress)
+            .containsExactly("yuanxuegui@163.com");
+    }
+
+    @Test
+    void findAll_keysetScrollsNullableSortForwardAndBackward() throws Exception {
+        userRepository.save(new User("Anna", "Yuan", "anna@163.com"));
+        userRepository.save(new User(null, "Yuan", "null1@163.com"));
+        userRepository.save(new User("Bob", "Yuan", "bob@163.com"));
+        userRepository.save(new User(null, "Yuan", "null2@163.com"));
+        Sort sort = Sort.by("fullName.firstName");
+
+        List<String> forward = new ArrayList<>();
+        Window<User> window = userRepository.findAll(ScrollPosition.keyset(), sort, 2);
+        window.forEach(u -> forward.add(u.getEmailAddress()));
+        while (window.hasNext()) {
+            window = userRepository.findAll(window.positionAt(window.size() - 1), sort, 2);
+            window.forEach(u -> forward.add(u.getEmailAddress()));
+        }
+        assertThat(forward).containsExactly("anna@163.com", "bob@163.com", "yuanxuegui@163.com",
+            "null1@163.com", "null2@163.com");
+
+        KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(0);
+        Window<User> previous = userRepository.findAll(last.backward(), sort, 2);
+        assertThat(previous).extracting(User::getEmailAddress)
+            .containsExactly("yuanxuegui@163.com", "null1@163.com");
+    }
+
+    @Test
+    void findFirst2ByActiveOrderByAgeAsc_scrollsWindows() throws Exception {
+        for (int age = 30; age < 33; age++) {
+            User other = new User("Other", "Yuan", "other" + age + "@163.com");
+            other.setAge(age);
+            userRepository.save(other);
+        }
+
+        Window<User> first = userRepository.findFirst2ByActiveOrderByAgeAsc(true, ScrollPosition.keyset());
+        assertThat(first).extracting(User::getAge).containsExactly(29, 30);
+        assertThat(first.hasNext()).isTrue();
+
+        Window<User> second = userRepository.findFirst2ByActiveOrderByAgeAsc(true, first.positionAt(1));
+        assertThat(second).extracting(User::getAge).containsExactly(31, 32);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void findByActive_parallelCount() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            userRepository.save(new User("Other", "Yuan", "other" + i + "@163.com"));
+        }
+
+        Page<User> page = userRepository.findByActive(true, PageRequest.of(1, 2, Sort.by("id")));
+
+        assertThat(page.getContent()).extracting(User::getEmailAddress)
+            .containsExactly("other1@163.com", "other2@163.com");
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void findByAge_cachesCountUntilSaveOrDelete() throws Exception {
+        User other = new User("Other", "Yuan", "other@163.com");
+        other.setAge(29);
+        userRepository.save(other);
+        PageRequest firstPage = PageRequest.of(0, 1);
+        CountCacheStatistics before = countCache.getStatistics();
+
+        assertThat(userRepository.findByAge(29, firstPage).getTotalElements()).isEqualTo(2);
+        assertThat(userRepository.findByAge(29, firstPage).getTotalElements()).isEqualTo(2);
+        CountCacheStatistics cached = countCache.getStatistics();
+        assertThat(cached.getMissCount() - before.getMissCount()).isEqualTo(1);
+        assertThat(cached.getHitCount() - before.getHitCount()).isEqualTo(1);
+
+        User third = new User("Third", "Yuan", "third@163.com");
+        third.setAge(29);
+        userRepository.save(third);
+        assertThat(userRepository.findByAge(29, firstPage).getTotalElements()).isEqualTo(3);
+
+        userRepository.delete(third);
+        assertThat(userRepository.findByAge(29, firstPage).getTotalElements()).isEqualTo(2);
+        CountCacheStatistics evicted = countCache.getStatistics();
+        assertThat(evicted.getMissCount() - before.getMissCount()).isEqualTo(3);
+        assertThat(evicted.getEvictionCount()).isGreaterThan(cached.getEvictionCount());
+    }
+
+    @Test
+    void findByEmailAddressIn_copiesCachedCountArguments() throws Exception {
+        userRepository.save(new User("Other", "Yuan", "other@163.com"));
+        List<String> emails = new ArrayList<>(List.of("yuanxuegui@163.com"));
+        CountCacheKey key = new CountCacheKey(User.class, "findByEmailAddressIn", emails);
+        PageRequest firstPage = PageRequest.of(0, 1);
+
+        assertThat(userRepository.findByEmailAddressIn(emails, firstPage).getTotalElements()).isEqualTo(1);
+        emails.add("other@163.com");
+
+        assertThat(key).isEqualTo(new CountCacheKey(User.class, "findByEmailAddressIn", List.of("yuanxuegui@163.com")));
+        assertThat(userRepository.findByEmailAddressIn(emails, firstPage).getTotalElements()).isEqualTo(2);
+        CountCacheStatistics before = countCache.getStatistics();
+        assertThat(userRepository.findByEmailAddressIn(List.of("yuanxuegui@163.com"), firstPage).getTotalElements())
+            .isEqualTo(1);
+        assertThat(countCache.getStatistics().getHitCount() - before.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void ttlCountCache_expiresCounts() throws Exception {
+        TtlCountCache cache = new TtlCountCache(Duration.ofMillis(50));
+        CountCacheKey key = new CountCacheKey(User.class, "findByAge", 29);
+
+        assertThat(cache.get(key, () -> 1)).isEqualTo(1);
+        assertThat(cache.get(key, () -> 2)).isEqualTo(1);
+        Thread.sleep(100);
+        assertThat(cache.get(key, () -> 3)).isEqualTo(3);
+
+        CountCacheStatistics statistics = cache.getStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getMissCount()).isEqualTo(2);
+        assertThat(statistics.getEvictionCount()).isEqualTo(1);
+        assertThat(statistics.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void saveAll_batchOptionsRestoreTransactionSettings() throws Exception {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Transaction transaction = userRepository.db().currentTransaction();
+            List<User> users = Arrays.asList(new User("Batch", "One", "batch1@163.com"),
+                new User("Batch", "Two", "batch2@163.com"), new User("Batch", "Three", "batch3@163.com"));
+
+            userRepository.saveAll(users, BatchOptions.of(2).withGetGeneratedKeys(false));
+
+            assertThat(transaction.isBatchMode()).isFalse();
+            User next = userRepository.save(new User("Batch", "Four", "batch4@163.com"));
+            assertThat(next.getId()).isNotNull();
+        });
+
+        assertThat(userRepository.findAllByEmailAddressAndFullNameLastName("batch3@163.com", "Three")).hasSize(1);
+        assertThat(userRepository.count()).isEqualTo(5);
+    }
+
+    @Test
+    void saveAll_ebeanBatchRepository() throws Exception {
+        BatchedUserRepository repository = new EbeanRepositoryFactory(userRepository.db())
+            .getRepository(BatchedUserRepository.class);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(new User("Batch", "User" + i, "batch" + i + "@163.com"));
+        }
+
+        assertThat(repository.saveAll(users)).hasSize(5);
+
+        assertThat(users).allSatisfy(u -> assertThat(u.getId()).isNotNull());
+        assertThat(userRepository.count()).isEqualTo(6);
+    }
+
+    @Test
+    void saveAll_stream() throws Exception {
+        Stream<User> users = IntStream.range(0, 250)
+            .mapToObj(i -> new User("Stream", "User" + i, "stream" + i + "@163.com"));
+        boolean[] closed = new boolean[1];
+
+        long saved = userRepository.saveAll(users.onClose(() -> closed[0] = true));
+
+        assertThat(saved).isEqualTo(250);
+        assertThat(closed[0]).isTrue();
+        assertThat(userRepository.count()).isEqualTo(251);
+    }
+
+    @Test
+    void saveAll_streamCommitsEachChunk() throws Exception {
+        List<User> users = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>();
+        Stream<User> stream = IntStream.range(0, 250)
+            .mapToObj(i -> new User("Chunk", "User" + i, "chunk" + i + "@163.com"))
+            .peek(users::add)
+            .peek(u -> transactions.add(userRepository.db().currentTransaction()));
+
+        assertThat(userRepository.saveAll(stream)).isEqualTo(250);
+
+        // no transaction, and so no persistence context, outlives a chunk
+        assertThat(transactions).hasSize(250).containsOnlyNulls();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            assertThat(userRepository.db().find(User.class, users.get(0).getId())).isNotSameAs(users.get(0)));
+        assertThat(userRepository.count()).isEqualTo(251);
+    }
+
+    @Test
+    void saveAll_streamJoinsCurrentTransaction() throws Exception {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<User> users = new ArrayList<>();
+            Stream<User> stream = IntStream.range(0, 250)
+                .mapToObj(i -> new User("Joined", "User" + i, "joined" + i + "@163.com"))
+                .peek(users::add)
+                .peek(u -> assertThat(userRepository.db().currentTransaction()).isNotNull());
+
+            assertThat(userRepository.saveAll(stream)).isEqualTo(250);
+
+            assertThat(userRepository.db().find(User.class, users.get(0).getId())).isSameAs(users.get(0));
+            status.setRollbackOnly();
+        });
+
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void saveAll_iterator() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(new User("Iterator", "User" + i, "iterator" + i + "@163.com"));
+        }
+
+        long saved = userRepository.saveAll(users.iterator());
+
+        assertThat(saved).isEqualTo(5);
+        assertThat(users).allSatisfy(u -> assertThat(u.getId()).isNotNull());
+        assertThat(userRepository.count()).isEqualTo(6);
+    }
+
+    @Test
+    void findAllById_chunksPadsAndKeepsIdOrder() throws Exception {
+        ChunkedUserRepository repository = new EbeanRepositoryFactory(userRepository.db())
+            .getRepository(ChunkedUserRepository.class);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ids.add(userRepository.save(new User("Chunk", "User" + i, "chunk" + i + "@163.com")).getId());
+        }
+        List<Long> reversed = new ArrayList<>(ids);
+        Collections.reverse(reversed);
+        reversed.add(ids.get(0));
+        reversed.add(-1L);
+
+        assertThat(repository.findAllById(reversed)).extracting(User::getId)
+            .containsExactlyElementsOf(reversed.subList(0, 6));
+        assertThat(userRepository.findAllById(reversed)).extracting(User::getId)
+            .containsExactlyElementsOf(reversed.subList(0, 6));
+
+        repository.deleteAllById(ids.subList(0, 5));
+        assertThat(userRepository.findAllById(ids)).extracting(User::getId).containsExactly(ids.get(5));
+        assertThat(userRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void findByEmailAddressIn_padsInList() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            userRepository.save(new User("Padded", "User" + i, "padded" + i + "@163.com"));
+        }
+        List<String> emails = Arrays.asList("padded0@163.com", "padded1@163.com", "padded2@163.com");
+
+        assertThat(InListSupport.pad(emails, 4)).containsExactly("padded0@163.com", "padded1@163.com",
+            "padded2@163.com", "padded2@163.com");
+        assertThat(InListSupport.pad(Arrays.asList("a", "b", "c", "d", "e"), 4)).hasSize(8);
+        assertThat(userRepository.findByEmailAddressInOrderByIdAsc(emails)).extracting(User::getEmailAddress)
+            .containsExactlyElementsOf(emails);
+        assertThat(userRepository.findByEmailAddressInOql(emails)).extracting(User::getEmailAddress)
+            .containsExactlyElementsOf(emails);
+        assertThat(userRepository.findByEmailAddressInOql(Arrays.asList("padded3@163.com", "none@163.com",
+            "padded0@163.com", "padded1@163.com", "padded2@163.com"))).hasSize(4);
+    }
+
+    @EbeanIdChunking(size = 4, parallel = true)
+    interface ChunkedUserRepository extends EbeanRepository<User, Long> {
+    }
+
+    @EbeanBatch(size = 2)
+    interface BatchedUserRepository extends EbeanRepository<User, Long> {
+    }
+
+    @Test
+    void getRepository_rejectsMistypedModifyingMethod() throws Exception {
+        EbeanRepositoryFactory factory = new EbeanRepositoryFactory(userRepository.db());
+
+        assertThatThrownBy(() -> factory.getRepository(MistypedModifyingUserRepository.class))
+            .satisfiesAnyOf(
+                e -> assertThat(e).isInstanceOf(IllegalArgumentException.class),
+                e -> assertThat(e).hasRootCauseInstanceOf(IllegalArgumentException.class))
+            .hasStackTraceContaining("Modifying queries can only use void or int/Integer as return type");
+    }
+
+    interface MistypedModifyingUserRepository extends EbeanRepository<User, Long> {
+
+        @Modifying
+        @Query("update user set age = :age")
+        List<User> updateAge(@Param("age") int age);
+    }
+
+    @Test
+    void findAsyncByFullNameLastName_runsOnExecutorWithoutTransaction() throws Exception {
+        long tasks = asyncExecutor.getThreadPoolExecutor().getTaskCount();
+
+        CompletableFuture<List<User>> users = userRepository.findAsyncByFullNameLastName("Yuan");
+
+        assertThat(users.get()).extracting(User::getEmailAddress).containsExactly("yuanxuegui@163.com");
+        assertThat(asyncExecutor.getThreadPoolExecutor().getTaskCount()).isEqualTo(tasks + 1);
+    }
+
+    @Test
+    void findAsyncByFullNameLastName_joinsCurrentTransaction() throws Exception {
+        long tasks = asyncExecutor.getThreadPoolExecutor().getTaskCount();
+
+        CompletableFuture<List<User>> users = new TransactionTemplate(transactionManager).execute(status -> {
+            userRepository.save(new User("Uncommitted", "Yuan", "uncommitted@163.com"));
+            CompletableFuture<List<User>> future = userRepository.findAsyncByFullNameLastName("Yuan");
+            assertThat(future).isDone();
+            status.setRollbackOnly();
+            return future;
+        });
+
+        assertThat(users.get()).extracting(User::getEmailAddress)
+            .containsExactlyInAnyOrder("yuanxuegui@163.com", "uncommitted@163.com");
+        assertThat(asyncExecutor.getThreadPoolExecutor().getTaskCount()).isEqualTo(tasks);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void findAllByActiveOrderByIdAsc_closesIteratorOnCancel() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            userRepository.save(new User("Flux", "User" + i, "flux" + i + "@163.com"));
+        }
+        int sessions = openSessions();
+
+        User first = userRepository.findAllByActiveOrderByIdAsc(true).take(1).blockLast();
+
+        assertThat(first.getEmailAddress()).isEqualTo("yuanxuegui@163.com");
+        assertThat(openSessions()).isEqualTo(sessions);
+        assertThat(userRepository.findAllByActiveOrderByIdAsc(true).count().block()).isEqualTo(11);
+    }
+
+    @Test
+    void findOneByEmailAddress_mono() throws Exception {
+        assertThat(userRepository.findOneByEmailAddress("yuanxuegui@163.com").block().getId())
+            .isEqualTo(user.getId());
+        assertThat(userRepository.findOneByEmailAddress("none@163.com").blockOptional()).isEmpty();
+    }
+
+    /**
+     * Number of open H2 sessions, one per JDBC connection that was not closed.
+     */
+    private int openSessions() {
+        return userRepository.db().sqlQuery("select count(*) as sessions from information_schema.sessions")
+            .findOne().getInteger("sessions");
+    }
+
+    @Test
+    void findAllPartitioned_splitsIdsSpanningNegativeAndPositive() throws Exception {
+        User lowest = new User("Partition", "Lowest", "lowest@163.com");
+        lowest.setId(Long.MIN_VALUE + 10);
+        User highest = new User("Partition", "Highest", "highest@163.com");
+        highest.setId(Long.MAX_VALUE - 10);
+        userRepository.saveAll(Arrays.asList(lowest, highest));
+        Set<Long> visited = ConcurrentHashMap.newKeySet();
+
+        List<PartitionStatistics> statistics = userRepository.findAllPartitioned(3, u -> visited.add(u.getId()));
+
+        assertThat(visited).containsExactlyInAnyOrder(lowest.getId(), user.getId(), highest.getId());
+        assertThat(statistics).hasSize(3).allSatisfy(s -> {
+            assertThat(s.getRows()).isEqualTo(1);
+            assertThat(s.isCompleted()).isTrue();
+        });
+        assertThat(statistics.get(0).getFirstId()).isEqualTo(lowest.getId());
+        assertThat(statistics.get(2).getLastId()).isEqualTo(highest.getId());
+    }
+
+    @Test
+    void findAllPartitioned_failsFast() throws Exception {
+        User lowest = new User("Partition", "Lowest", "lowest@163.com");
+        lowest.setId(Long.MIN_VALUE + 10);
+        User highest = new User("Partition", "Highest", "highest@163.com");
+        highest.setId(Long.MAX_VALUE - 10);
+        userRepository.saveAll(Arrays.asList(lowest, highest));
+        CountDownLatch release = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        try {
+            assertThatThrownBy(() -> userRepository.findAllPartitioned(3, u -> {
+                if (u.getId().equals(user.getId())) {
+                    throw new IllegalStateException("failed partition");
+                }
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            })).isInstanceOf(IllegalStateException.class).hasMessage("failed partition");
+
+            assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(5);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void findEach_visitsAllEntities() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            userRepository.save(new User("Each", "User" + i, "each" + i + "@163.com"));
+        }
+        List<String> visited = new ArrayList<>();
+
+        userRepository.findEach(u -> visited.add(u.getEmailAddress()));
+
+        assertThat(visited).hasSize(5).contains("yuanxuegui@163.com", "each3@163.com");
+    }
+
+    @Test
+    void findEachWhile_stopsWhenPredicateFails() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            userRepository.save(new User("Each", "User" + i, "each" + i + "@163.com"));
+        }
+        List<User> visited = new ArrayList<>();
+
+        userRepository.findEachWhile(u -> {
+            visited.add(u);
+            return visited.size() < 2;
+        });
+
+        assertThat(visited).hasSize(2);
+    }
+
+    @Test
+    void findEach_example() throws Exception {
+        userRepository.save(new User("Each", "Other", "other@163.com"));
+        User probe = new User();
+        probe.setFullName(new FullName(null, "Yuan"));
+        probe.setActive(true);
+        List<User> visited = new ArrayList<>();
+
+        userRepository.findEach("emailAddress", Example.of(probe), visited::add);
+
+        assertThat(visited).extracting(User::getEmailAddress).containsExactly("yuanxuegui@163.com");
+    }
+
+    @Test
+    void findEach_batches() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            userRepository.save(new User("Each", "User" + i, "each" + i + "@163.com"));
+        }
+        List<Integer> batchSizes = new ArrayList<>();
+
+        userRepository.findEach(2, batch -> batchSizes.add(batch.size()));
+
+        assertThat(batchSizes).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void findBy_example() throws Exception {
+        User probe = new User();
+        probe.setFullName(new FullName(null, "Yuan"));
+        probe.setActive(true);
+
+        assertThat(userRepository.findBy(Example.of(probe), q -> q.count())).isEqualTo(1);
+        assertThat(userRepository.findBy(Example.of(probe), q -> q.exists())).isTrue();
+
+        User found = userRepository.findBy(Example.of(probe),
+            q -> q.project("emailAddress", "age").sortBy(Sort.by("id")).firstValue());
+        assertThat(found.getEmailAddress()).isEqualTo("yuanxuegui@163.com");
+        assertThat(found.getAge()).isEqualTo(29);
+    }
+
+    @Test
+    void findBy_exampleFluentQueries() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            User other = new User("Fluent", "Yuan", "fluent" + i + "@163.com");
+            other.setAge(30 + i);
+            userRepository.save(other);
+        }
+        User probe = new User();
+        probe.setFullName(new FullName(null, "Yuan"));
+        probe.setActive(true);
+        Example<User> example = Example.of(probe);
+
+        Page<EmailOnly> page = userRepository.findBy(example,
+            q -> q.as(EmailOnly.class).page(PageRequest.of(1, 2, Sort.by("age"))));
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(EmailOnly::getEmailAddress)
+            .containsExactly("fluent1@163.com", "fluent2@163.com");
+
+        try (Stream<EmailAndAge> stream = userRepository.findBy(example,
+            q -> q.as(EmailAndAge.class).sortBy(Sort.by("age")).limit(2).stream())) {
+            assertThat(stream).containsExactly(new EmailAndAge("yuanxuegui@163.com", 29),
+                new EmailAndAge("fluent0@163.com", 30));
+        }
+
+        Window<EmailAndAge> window = userRepository.findBy(example,
+            q -> q.as(EmailAndAge.class).sortBy(Sort.by("age")).limit(3).scroll(ScrollPosition.keyset()));
+        assertThat(window.getContent()).extracting(EmailAndAge::emailAddress)
+            .containsExactly("yuanxuegui@163.com", "fluent0@163.com", "fluent1@163.com");
+        assertThat(window.hasNext()).isTrue();
+        Window<EmailAndAge> next = userRepository.findBy(example,
+            q -> q.as(EmailAndAge.class).sortBy(Sort.by("age")).limit(3).scroll(window.positionAt(2)));
+        assertThat(next.getContent()).extracting(EmailAndAge::age).containsExactly(32, 33);
+        assertThat(next.hasNext()).isFalse();
+
+        probe.setEmailAddress("fluent2@163.com");
+        assertThat(userRepository.findBy(example, q -> q.as(EmailAndAge.class).oneValue()))
+            .isEqualTo(new EmailAndAge("fluent2@163.com", 32));
+        probe.setEmailAddress("none@163.com");
+        assertThat(userRepository.findBy(example, q -> q.as(EmailOnly.class).oneValue())).isNull();
+    }
+
+    interface EmailOnly {
+
+        String getEmailAddress();
+    }
+
+    record EmailAndAge(String emailAddress, int age) {
+    }
+
+    @Test
+    void findByFullNameLastName_projections() throws Exception {
+        User other = new User("Projected", "Yuan", "projected@163.com");
+        other.setAge(30);
+        userRepository.save(other);
+        ProjectingUserRepository repository = new EbeanRepositoryFactory(userRepository.db())
+            .getRepository(ProjectingUserRepository.class);
+
+        LoggedSql.start();
+        List<EmailOnly> emails = repository.findEmailOnlyByFullNameLastNameOrderByIdAsc("Yuan");
+        List<String> sql = LoggedSql.stop();
+        assertThat(emails).extracting(EmailOnly::getEmailAddress)
+            .containsExactly("yuanxuegui@163.com", "projected@163.com");
+        assertThat(sql).hasSize(1);
+        assertThat(sql.get(0)).contains("email_address").doesNotContain("first_name", "age");
+
+        assertThat(repository.findEmailAndAgeByFullNameLastNameOrderByIdAsc("Yuan"))
+            .containsExactly(new EmailAndAge("yuanxuegui@163.com", 29), new EmailAndAge("projected@163.com", 30));
+        assertThat(repository.findEmailDtoByFullNameLastNameOrderByIdAsc("Yuan")).extracting(EmailDto::getEmailAddress)
+            .containsExactly("yuanxuegui@163.com", "projected@163.com");
+
+        assertThat(repository.findByFullNameLastNameOrderByIdAsc("Yuan", EmailAndAge.class))
+            .containsExactly(new EmailAndAge("yuanxuegui@163.com", 29), new EmailAndAge("projected@163.com", 30));
+        assertThat(repository.findByFullNameLastNameOrderByIdAsc("Yuan", User.class)).extracting(User::getFullName)
+            .extracting(FullName::getFirstName).containsExactly("Xuegui", "Projected");
+    }
+
+    interface ProjectingUserRepository extends EbeanRepository<User, Long> {
+
+        List<EmailOnly> findEmailOnlyByFullNameLastNameOrderByIdAsc(String lastName);
+
+        List<EmailAndAge> findEmailAndAgeByFullNameLastNameOrderByIdAsc(String lastName);
+
+        List<EmailDto> findEmailDtoByFullNameLastNameOrderByIdAsc(String lastName);
+
+        <T> List<T> findByFullNameLastNameOrderByIdAsc(String lastName, Class<T> type);
+    }
+
+    static class EmailDto {
+
+        private String emailAddress;
+
+        public String getEmailAddress() {
+            return emailAddress;
+        }
+
+        public void setEmailAddress(String emailAddress) {
+            this.emailAddress = emailAddress;
+        }
+    }
+
+    @Test
+    void applySort_validatesSortPerBeanType() throws Exception {
+        Database db = userRepository.db();
+        Sort sort = Sort.by("emailAddress");
+
+        assertThat(Converters.applySort(db, db.find(User.class), sort).findList()).hasSize(1);
+        assertThat(Converters.applySort(db, db.find(User.class), sort).findList()).hasSize(1);
+        assertThatThrownBy(() -> Converters.applySort(db, db.find(Role.class), sort))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("emailAddress");
+    }
+
+    @Test
+    void findAll_unsortedPageable() throws Exception {
+        Page<User> page = userRepository.findAll(PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).extracting(User::getEmailAddress).containsExactly("yuanxuegui@163.com");
+    }
+
+    @Test
+    void findByLastnameOql_copiesCachedTemplate() throws Exception {
+        EbeanRepositoryFactory factory = new EbeanRepositoryFactory(userRepository.db());
+        UserRepository repository = factory.getRepository(UserRepository.class);
+
+        repository.findByLastnameOql("Yuan");
+        QueryTemplateStatistics first = factory.getQueryTemplateStatistics();
+        List<User> users = repository.findByLastnameOql("Yuan");
+        QueryTemplateStatistics second = factory.getQueryTemplateStatistics();
+
+        assertThat(users).extracting(User::getEmailAddress).containsExactly("yuanxuegui@163.com");
+        assertThat(first.getMissCount()).isEqualTo(1);
+        assertThat(first.getHitCount()).isEqualTo(0);
+        assertThat(second.getMissCount()).isEqualTo(1);
+        assertThat(second.getHitCount()).isEqualTo(1);
+        assertThat(second.getSize()).isEqualTo(1);
+        assertThat(applicationContext.getBean("&userRepository", EbeanRepositoryFactoryBean.class)
+            .getQueryTemplateStatistics()).isNotNull();
+    }
+
 /*
     @Test
     public void deleteById() throws Exception {
@@ -0,0 +1,65 @@
+package org.springframework.data.ebean.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.ebean.sample.config.SampleConfig;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.ebean.sample.domain.UserRepository;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Streams more rows than fit into the heap the {@code large-tests} profile runs this test with, so it fails with an
+ * {@link OutOfMemoryError} if streamed entities are retained.
+ *
+ * @author Xuegui Yuan
+ */
+@Tag("large")
+@SpringJUnitConfig(classes = SampleConfig.class)
+class UserRepositoryLargeStreamTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int CHUNK = 10_000;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void streamAllByActive_doesNotRetainStreamedEntities() throws Exception {
+        assertThat(Runtime.getRuntime().maxMemory())
+            .as("heap must be too small to hold all streamed entities")
+            .isLessThan(ROWS * 256L);
+        userRepository.deleteAll();
+        for (int from = 0; from < ROWS; from += CHUNK) {
+            List<User> users = new ArrayList<>(CHUNK);
+            for (int i = from; i < from + CHUNK; i++) {
+                users.add(new User("stream", "stream" + i, "stream" + i + "@163.com"));
+            }
+            userRepository.saveAll(users);
+        }
+
+        long streamed = new TransactionTemplate(transactionManager).execute(status -> {
+            try (Stream<User> users = userRepository.streamAllByActive(true)) {
+                return users.count();
+            }
+        });
+
+        assertThat(streamed).isEqualTo(ROWS);
+    }
+}
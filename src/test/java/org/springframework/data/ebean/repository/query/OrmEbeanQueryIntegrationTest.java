@@ -0,0 +1,81 @@
+package org.springframework.data.ebean.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.ebean.sample.config.SampleConfig;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.ebean.sample.domain.UserRepository;
+import org.springframework.data.ebean.util.QueryTemplateSupport;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * @author Xuegui Yuan
+ */
+@SpringJUnitConfig(classes = SampleConfig.class)
+class OrmEbeanQueryIntegrationTest {
+
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        userRepository.deleteAll();
+        userRepository.save(new User("Xuegui", "Yuan", "yuanxuegui@163.com"));
+        userRepository.save(new User("Spel", "Yuan", "spel@163.com"));
+    }
+
+    @Test
+    void findByEmailAddressSpel() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(userRepository.findByEmailAddressSpel("spel@163.com")).extracting(User::getEmailAddress)
+                .containsExactly("spel@163.com");
+            assertThat(userRepository.findByEmailAddressSpel("yuanxuegui@163.com")).extracting(User::getEmailAddress)
+                .containsExactly("yuanxuegui@163.com");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findByEmailAddressSpel_parsesExpressionOnce() throws Exception {
+        CountingExpressionParser parser = new CountingExpressionParser();
+        EbeanQueryMethod method = new EbeanQueryMethod(
+            UserRepository.class.getMethod("findByEmailAddressSpel", String.class),
+            AbstractRepositoryMetadata.getMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory());
+        OrmEbeanQuery query = new OrmEbeanQuery(method, userRepository.db(),
+            QueryMethodEvaluationContextProvider.DEFAULT, parser);
+        QueryTemplateSupport queryTemplates = new QueryTemplateSupport(userRepository.db());
+        query.setQueryTemplates(queryTemplates);
+        parser.parsed.set(0);
+
+        for (String emailAddress : List.of("spel@163.com", "yuanxuegui@163.com", "spel@163.com")) {
+            assertThat((List<User>) query.execute(new Object[]{emailAddress})).extracting(User::getEmailAddress)
+                .containsExactly(emailAddress);
+        }
+
+        assertThat(parser.parsed).hasValue(1);
+        assertThat(queryTemplates.getStatistics().getMissCount()).isEqualTo(1);
+        assertThat(queryTemplates.getStatistics().getHitCount()).isEqualTo(2);
+    }
+
+    static class CountingExpressionParser extends SpelExpressionParser {
+
+        final AtomicInteger parsed = new AtomicInteger();
+
+        @Override
+        public Expression parseExpression(String expressionString) throws ParseException {
+            parsed.incrementAndGet();
+            return super.parseExpression(expressionString);
+        }
+    }
+}
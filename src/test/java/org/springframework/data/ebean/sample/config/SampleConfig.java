@@ -8,9 +8,12 @@ import io.ebean.spring.txn.SpringJdbcTransactionManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.ebean.cache.CountCache;
+import org.springframework.data.ebean.cache.TtlCountCache;
 import org.springframework.data.ebean.querychannel.EbeanQueryChannelService;
 import org.springframework.data.ebean.querychannel.QueryChannelService;
 import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.repository.support.EbeanRepositoryFactoryBean;
 import org.springframework.data.ebean.sample.domain.Address;
 import org.springframework.data.ebean.sample.domain.FullName;
 import org.springframework.data.ebean.sample.domain.Role;
@@ -19,10 +22,12 @@ import org.springframework.data.ebean.sample.domain.UserDomainService;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
 /**
  * @author Xuegui Yuan
@@ -81,6 +86,19 @@ public class SampleConfig {
         return DatabaseFactory.create(defaultEbeanServerConfig);
     }
 
+    @Bean
+    public CountCache countCache() {
+        return new TtlCountCache(Duration.ofHours(1));
+    }
+
+    @Bean(EbeanRepositoryFactoryBean.ASYNC_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor ebeanRepositoryAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setThreadNamePrefix("ebean-async-");
+        return executor;
+    }
+
     @Bean
     public UserDomainService userDomainService() {
         return new UserDomainService();
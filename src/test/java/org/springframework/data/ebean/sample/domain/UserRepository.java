@@ -1,14 +1,25 @@
 package org.springframework.data.ebean.sample.domain;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.ebean.annotation.EbeanInListPadding;
+import org.springframework.data.ebean.annotation.EbeanPaging;
+import org.springframework.data.ebean.annotation.EbeanStreaming;
 import org.springframework.data.ebean.annotation.Modifying;
 import org.springframework.data.ebean.annotation.Query;
 import org.springframework.data.ebean.repository.EbeanRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * @author Xuegui Yuan
@@ -41,9 +52,25 @@ public interface UserRepository extends EbeanRepository<User, Long> {
     @Modifying
     int deleteUserByEmailAddress(@Param("emailAddress") String emailAddress);
 
+    @Query("where emailAddress = :#{[0]} order by id asc")
+    List<User> findByEmailAddressSpel(String emailAddress);
+
     @Query(name = "withManagerById")
     List<User> findByLastNameNamedOql(@Param("lastName") String lastName);
 
+    List<User> findByFullNameFirstNameNot(String firstName);
+
+    List<User> findByFullNameFirstName(Optional<String> firstName);
+
+    List<User> findByEmailAddressStartingWith(Optional<String> prefix);
+
+    @EbeanInListPadding(maxSize = 4)
+    List<User> findByEmailAddressInOrderByIdAsc(Collection<String> emailAddresses);
+
+    @EbeanInListPadding(maxSize = 4)
+    @Query("where emailAddress in (:emailAddresses) order by id asc")
+    List<User> findByEmailAddressInOql(@Param("emailAddresses") Collection<String> emailAddresses);
+
     List<User> findAllByEmailAddressAndFullNameLastName(@Param("emailAddress") String emailAddress,
         @Param("lastName") String lastName);
 
@@ -51,4 +78,24 @@ public interface UserRepository extends EbeanRepository<User, Long> {
     Page<User> findUserByEmailAddressEqualsOql(@Param("emailAddress") String lastName,
         Pageable page);
 
+    @EbeanPaging(parallelCount = true)
+    Page<User> findByActive(boolean active, Pageable pageable);
+
+    @EbeanPaging(cacheCount = true)
+    Page<User> findByAge(int age, Pageable pageable);
+
+    @EbeanPaging(cacheCount = true)
+    Page<User> findByEmailAddressIn(Collection<String> emailAddresses, Pageable pageable);
+
+    Window<User> findFirst2ByActiveOrderByAgeAsc(boolean active, ScrollPosition position);
+
+    CompletableFuture<List<User>> findAsyncByFullNameLastName(String lastName);
+
+    Flux<User> findAllByActiveOrderByIdAsc(boolean active);
+
+    Mono<User> findOneByEmailAddress(String emailAddress);
+
+    @EbeanStreaming(fetchSize = 500)
+    Stream<User> streamAllByActive(boolean active);
+
 }